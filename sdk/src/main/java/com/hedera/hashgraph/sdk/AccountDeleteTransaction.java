@@ -75,4 +75,16 @@ public final class AccountDeleteTransaction extends Transaction<AccountDeleteTra
         bodyBuilder.setCryptoDelete(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var accountId = getAccountId();
+
+        if (accountId != null) {
+            cache.invalidate(accountId);
+            return true;
+        }
+
+        return false;
+    }
 }
@@ -66,4 +66,15 @@ public final class AccountInfoQuery extends Query<AccountInfo, AccountInfoQuery>
         // `ACCOUNT_DELETED` back instead.
         return super.getCostAsync(client).thenApply((cost) -> Hbar.fromTinybars(Math.max(cost.toTinybars(), 25)));
     }
+
+    @Override
+    public CompletableFuture<AccountInfo> executeAsync(Client client) {
+        var cache = client.entityInfoCache;
+
+        if (cache == null) {
+            return super.executeAsync(client);
+        }
+
+        return cache.accounts.getOrLoadAsync(getAccountId(), () -> super.executeAsync(client));
+    }
 }
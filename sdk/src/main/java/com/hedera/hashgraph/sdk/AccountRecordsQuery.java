@@ -6,6 +6,7 @@ import com.hedera.hashgraph.sdk.proto.QueryHeader;
 import com.hedera.hashgraph.sdk.proto.Response;
 import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import io.grpc.MethodDescriptor;
+import java8.util.concurrent.CompletableFuture;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +14,11 @@ import java.util.List;
 /**
  * Get all the records for an account for any transfers into it and out of it,
  * that were above the threshold, during the last 25 hours.
+ * <p>
+ * {@link #execute(Client)} decodes every record up front. To go through the records of a busy account
+ * without holding all of them decoded at once, use {@link #executeIterable(Client)}.
  */
-public final class AccountRecordsQuery extends Query<List<TransactionRecord>, AccountRecordsQuery> {
+public final class AccountRecordsQuery extends Query<List<TransactionRecord>, AccountRecordsQuery> implements WithExecuteIterable {
     private final CryptoGetAccountRecordsQuery.Builder builder;
 
     public AccountRecordsQuery() {
@@ -36,6 +40,20 @@ public final class AccountRecordsQuery extends Query<List<TransactionRecord>, Ac
         return this;
     }
 
+    /**
+     * Execute the query, and decode each record only as it is iterated over.
+     * <p>
+     * A decoded record is not kept, so it can be collected once the caller is done with it. Each iteration
+     * decodes the records again.
+     *
+     * @param client The client with which this will be executed.
+     * @return a future of the records of the account
+     */
+    @FunctionalExecutable(type = "java.lang.Iterable<TransactionRecord>")
+    public CompletableFuture<Iterable<TransactionRecord>> executeIterableAsync(Client client) {
+        return new IterableQuery().executeAsync(client);
+    }
+
     @Override
     void onMakeRequest(com.hedera.hashgraph.sdk.proto.Query.Builder queryBuilder, QueryHeader header) {
         queryBuilder.setCryptoGetAccountRecords(builder.setHeader(header));
@@ -67,4 +85,40 @@ public final class AccountRecordsQuery extends Query<List<TransactionRecord>, Ac
     MethodDescriptor<com.hedera.hashgraph.sdk.proto.Query, Response> getMethodDescriptor() {
         return CryptoServiceGrpc.getGetAccountRecordsMethod();
     }
+
+    /**
+     * The same query, with the records of the response left to be decoded as they are iterated over.
+     */
+    private class IterableQuery extends Query<Iterable<TransactionRecord>, IterableQuery> {
+        IterableQuery() {
+            setNodeAccountIds(AccountRecordsQuery.this.nodeAccountIds);
+            setMaxRetry(AccountRecordsQuery.this.maxRetries);
+            copyPaymentFrom(AccountRecordsQuery.this);
+        }
+
+        @Override
+        void onMakeRequest(com.hedera.hashgraph.sdk.proto.Query.Builder queryBuilder, QueryHeader header) {
+            AccountRecordsQuery.this.onMakeRequest(queryBuilder, header);
+        }
+
+        @Override
+        ResponseHeader mapResponseHeader(Response response) {
+            return AccountRecordsQuery.this.mapResponseHeader(response);
+        }
+
+        @Override
+        QueryHeader mapRequestHeader(com.hedera.hashgraph.sdk.proto.Query request) {
+            return AccountRecordsQuery.this.mapRequestHeader(request);
+        }
+
+        @Override
+        Iterable<TransactionRecord> mapResponse(Response response, AccountId nodeId, com.hedera.hashgraph.sdk.proto.Query request) {
+            return new TransactionRecordIterable(response.getCryptoGetAccountRecords().getRecordsList());
+        }
+
+        @Override
+        MethodDescriptor<com.hedera.hashgraph.sdk.proto.Query, Response> getMethodDescriptor() {
+            return AccountRecordsQuery.this.getMethodDescriptor();
+        }
+    }
 }
@@ -205,4 +205,16 @@ public final class AccountUpdateTransaction extends Transaction<AccountUpdateTra
         bodyBuilder.setCryptoUpdateAccount(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var accountId = getAccountId();
+
+        if (accountId != null) {
+            cache.invalidate(accountId);
+            return true;
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,152 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.Predicate;
+import java8.util.function.Supplier;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A size and time bounded, least-recently-used cache.
+ * <p>
+ * Entries are evicted once more than {@code maxEntries} are held or once they are older than
+ * {@code timeToLive}. All operations are synchronized on the cache.
+ */
+final class BoundedCache<K, V> {
+    private final LinkedHashMap<K, CacheEntry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private int maxEntries;
+
+    private long timeToLiveNanos;
+
+    private long hitCount = 0;
+
+    private long missCount = 0;
+
+    private long evictionCount = 0;
+
+    BoundedCache(int maxEntries, Duration timeToLive) {
+        setPolicy(maxEntries, timeToLive);
+    }
+
+    synchronized void setPolicy(int maxEntries, Duration timeToLive) {
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must be non-negative");
+        }
+
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive must be non-negative");
+        }
+
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+
+        evictOverflow();
+    }
+
+    @Nullable
+    synchronized V get(K key) {
+        var entry = entries.get(key);
+
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+
+        if (System.nanoTime() - entry.createdAt >= timeToLiveNanos) {
+            entries.remove(key);
+            evictionCount++;
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        return entry.value;
+    }
+
+    synchronized void put(K key, V value) {
+        if (maxEntries == 0) {
+            return;
+        }
+
+        entries.put(key, new CacheEntry<>(value, System.nanoTime()));
+        evictOverflow();
+    }
+
+    synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    synchronized void invalidateIf(Predicate<K> predicate) {
+        Iterator<K> iterator = entries.keySet().iterator();
+
+        while (iterator.hasNext()) {
+            if (predicate.test(iterator.next())) {
+                iterator.remove();
+            }
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    synchronized long getMissCount() {
+        return missCount;
+    }
+
+    synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Return the cached value for {@code key} or invoke {@code loader} and cache its result
+     * once it completes successfully. Failures are never cached.
+     */
+    CompletableFuture<V> getOrLoadAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        var cached = get(key);
+
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return loader.get().thenApply(value -> {
+            put(key, value);
+            return value;
+        });
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<K, CacheEntry<V>>> iterator = entries.entrySet().iterator();
+
+        // the iteration order of an access-ordered map is least-recently used first
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    private static final class CacheEntry<V> {
+        final V value;
+
+        final long createdAt;
+
+        CacheEntry(V value, long createdAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * The state of a chunk of a {@link ChunkedTransaction} during or after its execution.
+ *
+ * @see ChunkedTransaction#getChunkStatuses()
+ */
+public enum ChunkStatus {
+    /**
+     * The chunk has not been accepted by any node.
+     */
+    NOT_SUBMITTED,
+
+    /**
+     * A node accepted the chunk, and its receipt is awaited.
+     */
+    SUBMITTED,
+
+    /**
+     * The chunk reached consensus, or, for chunks whose receipts are not fetched, a node accepted it.
+     */
+    SUCCEEDED,
+
+    /**
+     * The chunk reached consensus with a failing receipt, or no node accepted it. Executing the transaction
+     * again submits it with a fresh transaction ID.
+     */
+    FAILED,
+
+    /**
+     * A node accepted the chunk, but its receipt could not be fetched, so whether it reached consensus is
+     * not known. Executing the transaction again first looks up its receipt, and only submits it again,
+     * with a fresh transaction ID, if it was not applied.
+     */
+    UNKNOWN
+}
@@ -0,0 +1,90 @@
+package com.hedera.hashgraph.sdk;
+
+import io.grpc.MethodDescriptor;
+import java8.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Submits a single chunk of a {@link ChunkedTransaction}.
+ * <p>
+ * Unlike {@link ChunkedTransaction#executeAsync(Client)}, which walks the chunks with the cursors of the
+ * transaction itself, each submission keeps its own node cursor so that several chunks can be in flight
+ * at the same time.
+ */
+final class ChunkSubmission extends Executable<
+    ChunkSubmission,
+    com.hedera.hashgraph.sdk.proto.Transaction,
+    com.hedera.hashgraph.sdk.proto.TransactionResponse,
+    TransactionResponse> {
+    private final ChunkedTransaction<?> transaction;
+
+    private final int chunk;
+
+    @Nullable
+    private final Client.Operator operator;
+
+    /**
+     * @param transaction The transaction the chunk belongs to
+     * @param chunk The index of the chunk to submit
+     * @param nodeAccountIds The nodes to try, in order; a subset of the nodes of {@code transaction}
+     * @param operator The operator to sign the chunk with when it is frozen as it is submitted, or
+     *     {@code null} if {@code transaction} was frozen and signed up front
+     */
+    ChunkSubmission(
+        ChunkedTransaction<?> transaction,
+        int chunk,
+        List<AccountId> nodeAccountIds,
+        @Nullable Client.Operator operator
+    ) {
+        this.transaction = transaction;
+        this.chunk = chunk;
+        this.operator = operator;
+        this.nodeAccountIds = nodeAccountIds;
+        this.maxRetries = transaction.maxRetries;
+    }
+
+    @Override
+    CompletableFuture<Void> onExecuteAsync(Client client) {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    com.hedera.hashgraph.sdk.proto.Transaction makeRequest() {
+        return transaction.makeChunkRequest(chunk, nodeAccountIds.get(nextNodeIndex), operator);
+    }
+
+    @Override
+    TransactionResponse mapResponse(
+        com.hedera.hashgraph.sdk.proto.TransactionResponse response,
+        AccountId nodeId,
+        com.hedera.hashgraph.sdk.proto.Transaction request
+    ) {
+        return new TransactionResponse(
+            nodeId,
+            getTransactionId(),
+            Transaction.hash(request.getSignedTransactionBytes().toByteArray())
+        );
+    }
+
+    @Override
+    Status mapResponseStatus(com.hedera.hashgraph.sdk.proto.TransactionResponse response) {
+        return Status.valueOf(response.getNodeTransactionPrecheckCode());
+    }
+
+    @Override
+    MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, com.hedera.hashgraph.sdk.proto.TransactionResponse> getMethodDescriptor() {
+        return transaction.getMethodDescriptor();
+    }
+
+    @Override
+    TransactionId getTransactionId() {
+        return transaction.transactionIds.get(chunk);
+    }
+
+    @Override
+    public String toString() {
+        return transaction.toString();
+    }
+}
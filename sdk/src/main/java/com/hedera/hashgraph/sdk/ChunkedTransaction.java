@@ -9,12 +9,33 @@ import com.hedera.hashgraph.sdk.proto.TransactionID;
 import java8.util.concurrent.CompletableFuture;
 import java8.util.concurrent.CompletionStage;
 import java8.util.function.Function;
+import org.bouncycastle.crypto.digests.SHA384Digest;
 
 import javax.annotation.Nullable;
 import java.util.*;
 
 abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Transaction<T> implements WithExecuteAll {
-    private static final int CHUNK_SIZE = 4096;
+    static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Largest serialized transaction, in bytes, accepted by the network.
+     */
+    static final int TRANSACTION_SIZE_LIMIT = 6144;
+
+    // an ed25519 signature pair within a signature map: a 32-byte key prefix, a 64-byte signature and their tags
+    static final int SIGNATURE_PAIR_SIZE = 102;
+
+    // the tags and lengths that wrap the body, the signature map and the data of a chunk, plus slack for the
+    // cascading transaction IDs and chunk numbers growing by a byte
+    private static final int FRAMING_SIZE = 32;
+
+    /**
+     * Largest chunk that could fit within the transaction size limit next to a single signature, before
+     * the size of the rest of the transaction body is known.
+     */
+    static final int MAX_CHUNK_SIZE = TRANSACTION_SIZE_LIMIT - FRAMING_SIZE - SIGNATURE_PAIR_SIZE;
+
+    private static final int DEFAULT_MAX_CHUNK_ATTEMPTS = 3;
 
     /**
      * Maximum number of chunks this message will get broken up into when
@@ -22,6 +43,62 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
      */
     private int maxChunks = 10;
 
+    /**
+     * Maximum number of chunks that are in flight at the same time when executed.
+     */
+    private int maxChunksInFlight = 1;
+
+    /**
+     * Number of times a chunk is submitted, each time to other nodes, before it is given up on.
+     */
+    private int maxChunkAttempts = DEFAULT_MAX_CHUNK_ATTEMPTS;
+
+    /**
+     * The status and response of each chunk during and after the last execution, kept so that executing
+     * the same frozen transaction again only submits the chunks that did not succeed.
+     */
+    @Nullable
+    private ChunkStatus[] chunkStatuses;
+
+    @Nullable
+    private TransactionResponse[] chunkResponses;
+
+    /**
+     * The transaction ID of the first chunk as the chunks were prepared, which the chunks keep referring
+     * to when they are given fresh transaction IDs.
+     */
+    @Nullable
+    private TransactionID initialTransactionId;
+
+    /**
+     * Number of bytes of data in each chunk.
+     */
+    private int chunkSize = CHUNK_SIZE;
+
+    /**
+     * Number of signatures to leave room for when the chunk size is computed on freeze,
+     * or 0 when the chunk size was set explicitly.
+     */
+    private int autoChunkSizeSignatures = 0;
+
+    /**
+     * Whether chunks are frozen and signed one at a time as they are submitted.
+     */
+    private boolean lazyFreeze = false;
+
+    /**
+     * The codec the data is encoded with before it is split into chunks.
+     */
+    @Nullable
+    private PayloadCodec payloadCodec;
+
+    /**
+     * The data encoded by the payload codec, kept apart from the data so that the contents remain those
+     * that were set; computed once when first needed.
+     */
+    @Nullable
+    private ByteString encodedData;
+
     protected ByteString data = ByteString.EMPTY;
 
     ChunkedTransaction(LinkedHashMap<TransactionId, LinkedHashMap<AccountId, com.hedera.hashgraph.sdk.proto.Transaction>> txs) throws InvalidProtocolBufferException {
@@ -37,9 +114,18 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return data;
     }
 
+    /**
+     * The data that is split into chunks when this transaction is frozen or executed.
+     */
+    ByteString getPayload() {
+        return getEncodedData();
+    }
+
     T setData(byte[] data) {
         requireNotFrozen();
         this.data = ByteString.copyFrom(data);
+        encodedData = null;
+        resetChunkStatuses();
 
         // noinspection unchecked
         return (T) this;
@@ -48,6 +134,8 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     T setData(ByteString data) {
         requireNotFrozen();
         this.data = data;
+        encodedData = null;
+        resetChunkStatuses();
 
         // noinspection unchecked
         return (T) this;
@@ -56,6 +144,8 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     T setData(String text) {
         requireNotFrozen();
         this.data = ByteString.copyFromUtf8(text);
+        encodedData = null;
+        resetChunkStatuses();
 
         // noinspection unchecked
         return (T) this;
@@ -64,6 +154,7 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     public T setMaxChunks(int maxChunks) {
         requireNotFrozen();
         this.maxChunks = maxChunks;
+        resetChunkStatuses();
 
         // noinspection unchecked
         return (T) this;
@@ -73,6 +164,235 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return maxChunks;
     }
 
+    /**
+     * Set the number of bytes of data in each chunk. Defaults to 4096.
+     * <p>
+     * The chunk together with the rest of the transaction and its signatures must fit within the
+     * transaction size limit of the network, see {@link #setAutoChunkSize(int)}. Freezing fails if a chunk
+     * would not fit next to the rest of the transaction and one signature.
+     *
+     * @param chunkSize The number of bytes of data in each chunk
+     * @return {@code this}
+     */
+    public T setChunkSize(int chunkSize) {
+        requireNotFrozen();
+
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be positive and at most " + MAX_CHUNK_SIZE);
+        }
+
+        this.chunkSize = chunkSize;
+        this.autoChunkSizeSignatures = 0;
+        resetChunkStatuses();
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Use the largest chunks that still fit within the transaction size limit of the network once
+     * the transaction is signed by {@code expectedSignatureCount} keys. The chunk size is computed
+     * on freeze, after which {@link #getChunkSize()} returns it.
+     * <p>
+     * Larger chunks mean fewer chunks to pay for and to wait on. Signing a chunk with more keys than
+     * expected makes it too large to be accepted.
+     *
+     * @param expectedSignatureCount The number of keys the transaction will be signed with, including the operator
+     * @return {@code this}
+     */
+    public T setAutoChunkSize(int expectedSignatureCount) {
+        requireNotFrozen();
+
+        if (expectedSignatureCount <= 0) {
+            throw new IllegalArgumentException("expectedSignatureCount must be positive");
+        }
+
+        this.autoChunkSizeSignatures = expectedSignatureCount;
+        resetChunkStatuses();
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Freeze and sign each chunk only when it is submitted, for the node it is submitted to, instead of
+     * freezing every chunk for every node up front. Only the chunks in flight are held in memory, as
+     * slices of the data, which matters for payloads of many chunks.
+     * <p>
+     * Chunks are signed by the operator of the client, which must pay for the transaction. A transaction
+     * that was frozen before it is executed, for example to add other signatures, is executed as usual.
+     *
+     * @param lazyFreeze Whether to freeze chunks as they are submitted
+     * @return {@code this}
+     */
+    public T setLazyFreeze(boolean lazyFreeze) {
+        requireNotFrozen();
+        this.lazyFreeze = lazyFreeze;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    public boolean getLazyFreeze() {
+        return lazyFreeze;
+    }
+
+    /**
+     * Encode the data with a codec, usually to compress it, before it is split into chunks. The encoded
+     * data starts with a header naming the codec, and is only used if it is smaller than the data. The
+     * data itself is kept as it was set.
+     * <p>
+     * Subscribers decode topic messages with {@link TopicMessageQuery#setPayloadCodecs(PayloadCodec...)},
+     * and readers decode file contents with {@link FileContentsQuery#setPayloadCodecs(PayloadCodec...)}.
+     * A file holds a single encoded payload, so its contents should all be appended in one transaction
+     * to a file created empty.
+     *
+     * @param payloadCodec The codec, or {@code null} to submit the data as it is
+     * @return {@code this}
+     */
+    public T setPayloadCodec(@Nullable PayloadCodec payloadCodec) {
+        requireNotFrozen();
+        this.payloadCodec = payloadCodec;
+        this.encodedData = null;
+        resetChunkStatuses();
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    @Nullable
+    public PayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    /**
+     * The data as it is submitted: encoded by the payload codec, if there is one.
+     */
+    ByteString getEncodedData() {
+        var codec = payloadCodec;
+
+        if (codec == null) {
+            return data;
+        }
+
+        @Var var encoded = encodedData;
+
+        if (encoded == null) {
+            encoded = PayloadEncoding.encode(codec, data);
+            encodedData = encoded;
+        }
+
+        return encoded;
+    }
+
+    /**
+     * Set the number of chunks that may be in flight at the same time when this transaction is executed.
+     * <p>
+     * By default a chunk is only submitted once the previous chunk is done. With a larger window, chunks
+     * that must reach consensus in order are all submitted to the same node, each one as soon as that node
+     * accepted the previous one, and their receipts are collected while later chunks are submitted. A
+     * node adds the transactions it accepts to consensus in the order it accepted them, which keeps the
+     * order given by their cascading transaction IDs. Should that node stop accepting chunks, every chunk
+     * in flight must reach consensus before the next one is submitted to another node.
+     * <p>
+     * Chunks that carry their own position are simply submitted to several nodes at once.
+     * <p>
+     * If a chunk fails to reach consensus, chunks that were already submitted after it may still be
+     * applied.
+     *
+     * @param maxChunksInFlight The number of chunks that may be submitted before the earliest of them is done
+     * @return {@code this}
+     */
+    public T setMaxChunksInFlight(int maxChunksInFlight) {
+        if (maxChunksInFlight <= 0) {
+            throw new IllegalArgumentException("maxChunksInFlight must be positive");
+        }
+
+        this.maxChunksInFlight = maxChunksInFlight;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    public int getMaxChunksInFlight() {
+        return maxChunksInFlight;
+    }
+
+    /**
+     * Set the number of times each chunk is submitted before it is given up on, for transactions of
+     * more than one chunk. Defaults to 3.
+     * <p>
+     * A chunk that no node accepted, after the retries of a single submission, is submitted again
+     * starting with another node, while the other chunks carry on. Chunks that reached consensus with a
+     * failing receipt are not submitted again, and chunks that must reach consensus in order are not
+     * submitted past a chunk that failed.
+     * <p>
+     * Once every chunk settled, the execution fails with the error of the first chunk that failed, and
+     * {@link #getChunkStatuses()} tells which chunks failed. Executing the same transaction again first
+     * looks up the receipts of the chunks whose outcome was {@link ChunkStatus#UNKNOWN}, then only submits
+     * the chunks that were not applied, each with a fresh transaction ID signed by the operator, who must
+     * pay for the transaction and be its only signer. Chunks that must reach consensus in order are not
+     * executed again once a chunk succeeded after one that did not.
+     *
+     * @param maxChunkAttempts The number of submissions of each chunk
+     * @return {@code this}
+     * @see #getChunkStatuses()
+     */
+    public T setMaxChunkAttempts(int maxChunkAttempts) {
+        if (maxChunkAttempts <= 0) {
+            throw new IllegalArgumentException("maxChunkAttempts must be positive");
+        }
+
+        this.maxChunkAttempts = maxChunkAttempts;
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    public int getMaxChunkAttempts() {
+        return maxChunkAttempts;
+    }
+
+    /**
+     * @return The status of each chunk of a transaction of more than one chunk, as of its last
+     *     execution, or an empty list if it was not executed
+     */
+    public List<ChunkStatus> getChunkStatuses() {
+        var statuses = chunkStatuses;
+
+        if (statuses == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(statuses.clone()));
+    }
+
+    /**
+     * @return The response of each chunk that a node accepted, as of the last execution, and {@code null}
+     *     for the other chunks, or an empty list if it was not executed
+     */
+    public List<TransactionResponse> getChunkResponses() {
+        var responses = chunkResponses;
+
+        if (responses == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(responses.clone()));
+    }
+
+    /**
+     * Forget the chunks of an earlier execution, which are not the chunks that are executed next.
+     */
+    void resetChunkStatuses() {
+        chunkStatuses = null;
+        chunkResponses = null;
+    }
+
     public byte[] getTransactionHash() {
         if (transactions.size() > nodeAccountIds.size()) {
             throw new IllegalStateException("a single transaction hash can not be calculated for a chunked transaction, try calling `getAllTransactionHashesPerNode`");
@@ -91,28 +411,47 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     }
 
     public final List<Map<AccountId, byte[]>> getAllTransactionHashesPerNode() {
+        return getAllTransactionHashes().toList();
+    }
+
+    /**
+     * Hash every chunk as it would be submitted to every node, in a single pass.
+     *
+     * @return the hashes indexed by chunk and node
+     */
+    public final ChunkedTransactionHashes getAllTransactionHashes() {
         if (!this.isFrozen()) {
             throw new IllegalStateException("transaction must have been frozen before calculating the hash will be stable, try calling `freeze`");
         }
 
-        var size = signedTransactions.size() / nodeAccountIds.size();
-        var transactionHashes = new ArrayList<Map<AccountId, byte[]>>(transactions.size() / nodeAccountIds.size());
+        buildTransactions(signedTransactions.size());
+
+        var digest = new SHA384Digest();
+        var hashes = new byte[transactions.size() * ChunkedTransactionHashes.HASH_SIZE];
+        @Var var scratch = new byte[0];
 
-        for (var group = 0; group < size; ++group) {
-            var hashes = new HashMap<AccountId, byte[]>();
+        // transactions are ordered by chunk and then by node
+        for (var i = 0; i < transactions.size(); i++) {
+            var bytes = transactions.get(i).getSignedTransactionBytes();
 
-            for (var i = group * size; i < (group + 1) * size; ++i) {
-                hashes.put(nodeAccountIds.get(group), hash(transactions.get(i).getSignedTransactionBytes().toByteArray()));
+            if (scratch.length < bytes.size()) {
+                scratch = new byte[bytes.size()];
             }
 
-            transactionHashes.add(hashes);
+            bytes.copyTo(scratch, 0);
+            digest.update(scratch, 0, bytes.size());
+            digest.doFinal(hashes, i * ChunkedTransactionHashes.HASH_SIZE);
         }
 
-        return transactionHashes;
+        return new ChunkedTransactionHashes(nodeAccountIds, transactions.size() / nodeAccountIds.size(), hashes);
     }
 
     @FunctionalExecutable(type = "java.util.List<TransactionResponse>")
     public CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> executeAllAsync(Client client) {
+        if (lazyFreeze && !isFrozen()) {
+            return executeLazilyAsync(client);
+        }
+
         if (!isFrozen()) {
             freezeWith(client);
         }
@@ -125,6 +464,14 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
             signWithOperator(client);
         }
 
+        if (transactionIds.size() > 1 || tracksChunks()) {
+            if (chunkStatuses != null) {
+                return resumeChunksAsync(client, client.getOperator(), true);
+            }
+
+            return new ChunkPipeline(client, null).start();
+        }
+
         CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> future =
             CompletableFuture.supplyAsync(() -> new ArrayList<>(transactionIds.size()));
 
@@ -153,52 +500,203 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
         return future;
     }
 
-    @Override
-    public CompletableFuture<com.hedera.hashgraph.sdk.TransactionResponse> executeAsync(Client client) {
-        return executeAllAsync(client).thenApply(responses -> responses.get(0));
+    private CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> executeLazilyAsync(Client client) {
+        var operator = client.getOperator();
+
+        if (operator == null) {
+            throw new IllegalStateException("`client` must have an `operator` to sign chunks as they are submitted");
+        }
+
+        if (!prepareFreeze(client)) {
+            throw new IllegalStateException("transaction is not ready to be frozen");
+        }
+
+        if (!operator.accountId.equals(transactionIds.get(0).accountId)) {
+            throw new IllegalStateException("chunks frozen as they are submitted must be paid for by the operator");
+        }
+
+        if (chunkStatuses != null) {
+            // executed again, so keep the chunks that succeeded
+            return resumeChunksAsync(client, operator, false);
+        }
+
+        prepareChunks(transactionIds.get(0).toProtobuf());
+
+        return new ChunkPipeline(client, operator).start();
+    }
+
+    /**
+     * Execute the chunks that did not succeed in the last execution, once the receipts of the chunks whose
+     * outcome was unknown told whether they were applied.
+     *
+     * @param operator The operator that pays for the transaction
+     * @param frozen Whether the chunks were frozen up front
+     */
+    private CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> resumeChunksAsync(
+        Client client,
+        @Nullable Client.Operator operator,
+        boolean frozen
+    ) {
+        if (Arrays.asList(Objects.requireNonNull(chunkStatuses)).contains(ChunkStatus.UNKNOWN)) {
+            return resolveUnknownChunksAsync(client).thenCompose(v -> resumeChunksAsync(client, operator, frozen));
+        }
+
+        renewChunks(operator, frozen);
+
+        return new ChunkPipeline(client, frozen ? null : operator).start();
     }
 
-    public T freezeWith(@Nullable Client client) {
-        super.freezeWith(client);
+    /**
+     * Look up the receipts of the chunks whose outcome was unknown after the last execution. A chunk that
+     * was applied must not be submitted again with a fresh transaction ID, which would apply it twice.
+     */
+    private CompletableFuture<Void> resolveUnknownChunksAsync(Client client) {
+        var statuses = Objects.requireNonNull(chunkStatuses);
+        var lookups = new ArrayList<CompletableFuture<Void>>();
 
-        var initialTransactionId = Objects.requireNonNull(transactionIds.get(0)).toProtobuf();
-        @Var var requiredChunks = (this.data.size() + (CHUNK_SIZE - 1)) / CHUNK_SIZE;
+        for (var chunk = 0; chunk < statuses.length; chunk++) {
+            if (statuses[chunk] != ChunkStatus.UNKNOWN) {
+                continue;
+            }
 
-        if (requiredChunks == 0) {
-            requiredChunks = 1;
+            var unknown = chunk;
+
+            lookups.add(transactionIds.get(chunk).getReceiptAsync(client).handle((receipt, error) -> {
+                if (error != null && !isNotApplied(error)) {
+                    throw new IllegalStateException(
+                        "the outcome of chunk " + unknown + " is still unknown, so it can not be submitted again "
+                            + "without risking it being applied twice", error);
+                }
+
+                synchronized (this) {
+                    statuses[unknown] = error == null ? ChunkStatus.SUCCEEDED : ChunkStatus.FAILED;
+                }
+
+                return null;
+            }));
         }
 
-        if (requiredChunks > maxChunks) {
-            throw new IllegalArgumentException(
-                "message of " + this.data.size() + " bytes requires " + requiredChunks
-                    + " chunks but the maximum allowed chunks is " + maxChunks + ", try using setMaxChunks");
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * @return whether a receipt lookup failed because the transaction reached consensus but was not applied,
+     *     rather than because the receipt could not be fetched
+     */
+    static boolean isNotApplied(Throwable error) {
+        @Var var cause = error;
+
+        // unwrap the exceptions the futures wrap errors in, but not the cause of running out of attempts
+        while (cause instanceof RuntimeException && cause.getCause() != null) {
+            cause = cause.getCause();
         }
 
-        signatures = new ArrayList<>(requiredChunks * nodeAccountIds.size());
-        transactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
-        signedTransactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
-        transactionIds = new ArrayList<>(requiredChunks);
+        // a failed receipt is reported with its status as a precheck failure of the receipt query
+        return cause instanceof ReceiptStatusException || cause instanceof PrecheckStatusException;
+    }
 
-        @Var var nextTransactionId = initialTransactionId.toBuilder();
+    /**
+     * Give each chunk that did not succeed in the last execution a fresh transaction ID before it is
+     * submitted again: a node that saw the chunk would reject it as a duplicate, and its valid start may
+     * have passed.
+     *
+     * @param operator The operator that pays for the transaction
+     * @param frozen Whether the chunks were frozen up front, in which case they are frozen and signed anew
+     */
+    private void renewChunks(@Nullable Client.Operator operator, boolean frozen) {
+        var statuses = Objects.requireNonNull(chunkStatuses);
+        var renewed = new ArrayList<Integer>();
 
-        for (int i = 0; i < requiredChunks; i++) {
-            @Var var startIndex = i * CHUNK_SIZE;
-            @Var var endIndex = startIndex + CHUNK_SIZE;
+        for (var chunk = 0; chunk < statuses.length; chunk++) {
+            if (statuses[chunk] != ChunkStatus.SUCCEEDED) {
+                renewed.add(chunk);
+            } else if (shouldGetReceipt() && !renewed.isEmpty()) {
+                throw new IllegalStateException(
+                    "chunk " + chunk + " was applied after chunk " + renewed.get(0) + " failed, so the chunks "
+                        + "left can no longer be applied in order");
+            }
+        }
 
-            if (endIndex > this.data.size()) {
-                endIndex = this.data.size();
+        if (renewed.isEmpty()) {
+            return;
+        }
+
+        if (operator == null || !operator.accountId.equals(transactionIds.get(0).accountId)) {
+            throw new IllegalStateException(
+                "chunks are submitted again with fresh transaction IDs, which requires the operator to pay for them");
+        }
+
+        var nodeCount = nodeAccountIds.size();
+
+        if (frozen) {
+            if (initialTransactionId == null) {
+                throw new IllegalStateException(
+                    "chunks of a transaction read from bytes can not be submitted again with fresh transaction IDs");
             }
 
-            transactionIds.add(TransactionId.fromProtobuf(nextTransactionId.build()));
+            var operatorKey = ByteString.copyFrom(operator.publicKey.toBytes());
 
-            onFreezeChunk(
-                bodyBuilder.setTransactionID(nextTransactionId.build()),
-                initialTransactionId,
-                startIndex,
-                endIndex,
-                i,
-                requiredChunks
-            );
+            for (var chunk : renewed) {
+                for (var i = chunk * nodeCount; i < (chunk + 1) * nodeCount; i++) {
+                    for (var sigPair : signatures.get(i).getSigPairList()) {
+                        if (!operatorKey.startsWith(sigPair.getPubKeyPrefix())) {
+                            throw new IllegalStateException(
+                                "chunks signed by other keys than the operator can not be submitted again, "
+                                    + "try freezing the transaction anew");
+                        }
+                    }
+                }
+            }
+        }
+
+        var nextTransactionId = TransactionId.generate(operator.accountId).toProtobuf().toBuilder();
+
+        for (var chunk : renewed) {
+            transactionIds.set(chunk, TransactionId.fromProtobuf(nextTransactionId.build()));
+
+            var nextValidStart = nextTransactionId.getTransactionValidStart().toBuilder();
+            nextValidStart.setNanos(nextValidStart.getNanos() + 1);
+
+            nextTransactionId.setTransactionValidStart(nextValidStart);
+
+            if (!frozen) {
+                // chunks that are frozen as they are submitted pick up their transaction ID then
+                continue;
+            }
+
+            freezeChunk(Objects.requireNonNull(initialTransactionId), chunk);
+
+            for (var node = 0; node < nodeCount; node++) {
+                var bodyBytes = bodyBuilder.setNodeAccountID(nodeAccountIds.get(node).toProtobuf()).build().toByteString();
+                var signature = operator.transactionSigner.apply(bodyBytes.toByteArray());
+
+                signedTransactions.get(chunk * nodeCount + node).setBodyBytes(bodyBytes);
+                signatures.set(chunk * nodeCount + node,
+                    SignatureMap.newBuilder().addSigPair(operator.publicKey.toSignaturePairProtobuf(signature)));
+            }
+        }
+
+        if (frozen) {
+            transactions.clear();
+        }
+    }
+
+    @Override
+    public CompletableFuture<com.hedera.hashgraph.sdk.TransactionResponse> executeAsync(Client client) {
+        return executeAllAsync(client).thenApply(responses -> responses.get(0));
+    }
+
+    @Override
+    void freezeBodies() {
+        var initialTransactionId = transactionIds.get(0).toProtobuf();
+        var requiredChunks = prepareChunks(initialTransactionId);
+
+        signatures = new ArrayList<>(requiredChunks * nodeAccountIds.size());
+        transactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
+        signedTransactions = new ArrayList<>(requiredChunks * nodeAccountIds.size());
+
+        for (int i = 0; i < requiredChunks; i++) {
+            freezeChunk(initialTransactionId, i);
 
             // For each node we add a transaction with that node
             for (var nodeId : nodeAccountIds) {
@@ -212,6 +710,47 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
                     )
                 );
             }
+        }
+    }
+
+    /**
+     * Compute the chunk size and the cascading transaction ID of each chunk.
+     *
+     * @return the number of chunks
+     */
+    int prepareChunks(TransactionID initialTransactionId) {
+        var payloadSize = getPayload().size();
+
+        if (autoChunkSizeSignatures > 0) {
+            chunkSize = largestChunkSize(initialTransactionId, autoChunkSizeSignatures);
+        } else if (Math.min(chunkSize, payloadSize) > largestChunkSize(initialTransactionId, 1)) {
+            throw new IllegalArgumentException(
+                "chunks of " + chunkSize + " bytes do not fit within " + TRANSACTION_SIZE_LIMIT
+                    + " bytes with the rest of the transaction, try a smaller chunk size or setAutoChunkSize");
+        }
+
+        @Var var requiredChunks = (payloadSize + (chunkSize - 1)) / chunkSize;
+
+        if (requiredChunks == 0) {
+            requiredChunks = 1;
+        }
+
+        if (requiredChunks > maxChunks) {
+            throw new IllegalArgumentException(
+                "message of " + payloadSize + " bytes requires " + requiredChunks
+                    + " chunks but the maximum allowed chunks is " + maxChunks + ", try using setMaxChunks");
+        }
+
+        transactionIds = new ArrayList<>(requiredChunks);
+
+        // the chunks of an earlier execution are not these chunks
+        resetChunkStatuses();
+        this.initialTransactionId = initialTransactionId;
+
+        var nextTransactionId = initialTransactionId.toBuilder();
+
+        for (int i = 0; i < requiredChunks; i++) {
+            transactionIds.add(TransactionId.fromProtobuf(nextTransactionId.build()));
 
             // add 1 ns to the validStart to make cascading transaction IDs
             var nextValidStart = nextTransactionId.getTransactionValidStart().toBuilder();
@@ -220,8 +759,87 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
             nextTransactionId.setTransactionValidStart(nextValidStart);
         }
 
-        // noinspection unchecked
-        return (T) this;
+        return requiredChunks;
+    }
+
+    /**
+     * Assign the transaction ID and the data of a chunk to the transaction body.
+     */
+    private void freezeChunk(TransactionID initialTransactionId, int chunk) {
+        var startIndex = chunk * chunkSize;
+        var endIndex = Math.min(startIndex + chunkSize, getPayload().size());
+
+        onFreezeChunk(
+            bodyBuilder.setTransactionID(transactionIds.get(chunk).toProtobuf()),
+            initialTransactionId,
+            startIndex,
+            endIndex,
+            chunk,
+            transactionIds.size()
+        );
+    }
+
+    /**
+     * Get the request that submits a chunk to a node.
+     * <p>
+     * When {@code operator} is set, the chunk was not frozen up front: its body is built for that node
+     * and signed by the operator, and the request is not kept once it was sent.
+     */
+    com.hedera.hashgraph.sdk.proto.Transaction makeChunkRequest(int chunk, AccountId nodeId, @Nullable Client.Operator operator) {
+        if (operator == null) {
+            var index = chunk * nodeAccountIds.size() + nodeAccountIds.indexOf(nodeId);
+
+            return transactions.get(index);
+        }
+
+        ByteString bodyBytes;
+
+        synchronized (this) {
+            freezeChunk(Objects.requireNonNull(initialTransactionId), chunk);
+
+            bodyBytes = bodyBuilder.setNodeAccountID(nodeId.toProtobuf()).build().toByteString();
+        }
+
+        var signature = operator.transactionSigner.apply(bodyBytes.toByteArray());
+
+        return com.hedera.hashgraph.sdk.proto.Transaction.newBuilder()
+            .setSignedTransactionBytes(com.hedera.hashgraph.sdk.proto.SignedTransaction.newBuilder()
+                .setBodyBytes(bodyBytes)
+                .setSigMap(SignatureMap.newBuilder().addSigPair(operator.publicKey.toSignaturePairProtobuf(signature)))
+                .build()
+                .toByteString())
+            .build();
+    }
+
+    /**
+     * Compute the largest chunk that fits within the transaction size limit by measuring a chunk without
+     * any data for the node with the longest account ID.
+     */
+    private int largestChunkSize(TransactionID initialTransactionId, int signatureCount) {
+        onFreezeChunk(
+            bodyBuilder.setTransactionID(initialTransactionId),
+            initialTransactionId,
+            0,
+            0,
+            maxChunks - 1,
+            maxChunks
+        );
+
+        @Var var bodySize = 0;
+
+        for (var nodeId : nodeAccountIds) {
+            bodySize = Math.max(bodySize, bodyBuilder.setNodeAccountID(nodeId.toProtobuf()).build().getSerializedSize());
+        }
+
+        var available = TRANSACTION_SIZE_LIMIT - bodySize - FRAMING_SIZE - signatureCount * SIGNATURE_PAIR_SIZE;
+
+        if (available <= 0) {
+            throw new IllegalArgumentException(
+                "a transaction signed by " + signatureCount + " keys leaves no room for data within "
+                    + TRANSACTION_SIZE_LIMIT + " bytes");
+        }
+
+        return available;
     }
 
     abstract void onFreezeChunk(TransactionBody.Builder body, TransactionID initialTransactionId, int startIndex, int endIndex, int chunk, int total);
@@ -229,4 +847,331 @@ abstract class ChunkedTransaction<T extends ChunkedTransaction<T>> extends Trans
     boolean shouldGetReceipt() {
         return false;
     }
+
+    /**
+     * Whether the derived class follows each chunk through {@link #onChunkSubmitting(int)} and
+     * {@link #onChunkDone(int)}, which requires the chunks to be submitted one by one.
+     */
+    boolean tracksChunks() {
+        return false;
+    }
+
+    /**
+     * Called just before a chunk is submitted for the first time.
+     */
+    void onChunkSubmitting(int chunk) {
+        // most transactions do not follow their chunks
+    }
+
+    /**
+     * Called once a chunk is done: once its receipt is received if {@link #shouldGetReceipt()} and
+     * otherwise once a node accepted it.
+     */
+    void onChunkDone(int chunk) {
+        // most transactions do not follow their chunks
+    }
+
+    /**
+     * Keeps up to {@code maxChunksInFlight} chunks in flight, see {@link #setMaxChunksInFlight(int)}.
+     * <p>
+     * A chunk is in flight until it is done: once its receipt is received if the chunks must reach
+     * consensus in order and otherwise once a node accepted it. A chunk that fails is submitted again,
+     * see {@link #setMaxChunkAttempts(int)}, and the execution completes once every chunk settled.
+     */
+    private final class ChunkPipeline {
+        final CompletableFuture<List<TransactionResponse>> future = new CompletableFuture<>();
+
+        final Client client;
+
+        // signs chunks that are frozen as they are submitted
+        @Nullable
+        final Client.Operator operator;
+
+        final boolean ordered = shouldGetReceipt();
+
+        final int chunkCount = transactionIds.size();
+
+        final ChunkStatus[] statuses = new ChunkStatus[chunkCount];
+
+        final TransactionResponse[] responses = new TransactionResponse[chunkCount];
+
+        final CompletableFuture<?>[] receipts = new CompletableFuture<?>[chunkCount];
+
+        final int[] attempts = new int[chunkCount];
+
+        // the node that accepted the last chunk, ordered chunks stay with it for as long as it accepts them
+        @Nullable
+        AccountId pinnedNodeId;
+
+        // the error of the first chunk that failed
+        @Nullable
+        Throwable firstError;
+
+        int nextChunk = 0;
+
+        int inFlight = 0;
+
+        // ordered chunks are submitted one at a time
+        boolean submitting = false;
+
+        // no chunk is submitted past an ordered chunk that failed
+        boolean halted = false;
+
+        boolean finished = false;
+
+        ChunkPipeline(Client client, @Nullable Client.Operator operator) {
+            this.client = client;
+            this.operator = operator;
+
+            Arrays.fill(statuses, ChunkStatus.NOT_SUBMITTED);
+
+            var previousStatuses = chunkStatuses;
+            var previousResponses = chunkResponses;
+
+            if (previousStatuses != null && previousResponses != null && previousStatuses.length == chunkCount) {
+                // leave the chunks that succeeded in an earlier execution alone
+                for (var chunk = 0; chunk < chunkCount; chunk++) {
+                    if (previousStatuses[chunk] == ChunkStatus.SUCCEEDED) {
+                        statuses[chunk] = ChunkStatus.SUCCEEDED;
+                        responses[chunk] = previousResponses[chunk];
+                        receipts[chunk] = CompletableFuture.completedFuture(null);
+                    }
+                }
+            }
+
+            chunkStatuses = statuses;
+            chunkResponses = responses;
+        }
+
+        CompletableFuture<List<TransactionResponse>> start() {
+            if (operator == null) {
+                buildTransactions(signedTransactions.size());
+            }
+
+            submitChunks();
+
+            return future;
+        }
+
+        private void submitChunks() {
+            var ready = new ArrayList<Integer>();
+            @Nullable AccountId nodeId;
+            boolean finishing;
+
+            synchronized (this) {
+                while (!halted && !submitting && inFlight < maxChunksInFlight) {
+                    while (nextChunk < chunkCount && statuses[nextChunk] == ChunkStatus.SUCCEEDED) {
+                        nextChunk += 1;
+                    }
+
+                    if (nextChunk == chunkCount) {
+                        break;
+                    }
+
+                    ready.add(nextChunk);
+
+                    nextChunk += 1;
+                    inFlight += 1;
+                    submitting = ordered;
+                }
+
+                nodeId = pinnedNodeId;
+
+                finishing = !finished && inFlight == 0 && (halted || nextChunk == chunkCount);
+                finished = finished || finishing;
+            }
+
+            if (finishing) {
+                finish();
+                return;
+            }
+
+            for (var chunk : ready) {
+                try {
+                    onChunkSubmitting(chunk);
+                } catch (Throwable error) {
+                    failed(chunk, ChunkStatus.FAILED, error, true);
+                    continue;
+                }
+
+                if (nodeId == null) {
+                    submitToAnyNode(chunk);
+                } else {
+                    submitToNode(chunk, nodeId);
+                }
+            }
+        }
+
+        private void submitToNode(int chunk, AccountId nodeId) {
+            new ChunkSubmission(ChunkedTransaction.this, chunk, Collections.singletonList(nodeId), operator)
+                .executeAsync(client)
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        submitted(chunk, response);
+                        return;
+                    }
+
+                    // moving to another node could reorder this chunk with the chunks in flight
+                    // so wait for all of them to reach consensus first
+                    CompletableFuture<?>[] earlier;
+
+                    synchronized (this) {
+                        earlier = Arrays.copyOf(receipts, chunk);
+                    }
+
+                    CompletableFuture.allOf(earlier).whenComplete((v, receiptError) -> {
+                        if (receiptError != null) {
+                            // an earlier chunk failed, so this one must not be applied after all
+                            abandon();
+                        } else {
+                            submitToAnyNode(chunk);
+                        }
+                    });
+                });
+        }
+
+        private void submitToAnyNode(int chunk) {
+            var nodes = new ArrayList<>(nodeAccountIds);
+            int attempt;
+
+            synchronized (this) {
+                attempt = attempts[chunk];
+                attempts[chunk] += 1;
+            }
+
+            // spread the chunks over the nodes, and start each new attempt with another node
+            Collections.rotate(nodes, -(chunk + attempt));
+
+            new ChunkSubmission(ChunkedTransaction.this, chunk, nodes, operator)
+                .executeAsync(client)
+                .whenComplete((response, error) -> {
+                    if (error == null) {
+                        submitted(chunk, response);
+                    } else if (attempt + 1 < maxChunkAttempts) {
+                        submitToAnyNode(chunk);
+                    } else {
+                        failed(chunk, ChunkStatus.FAILED, error, false);
+                    }
+                });
+        }
+
+        private void submitted(int chunk, TransactionResponse response) {
+            CompletableFuture<Void> receipt = ordered
+                ? response.getReceiptAsync(client).thenAccept(r -> {})
+                : CompletableFuture.completedFuture(null);
+
+            synchronized (this) {
+                responses[chunk] = response;
+                receipts[chunk] = receipt;
+                statuses[chunk] = ChunkStatus.SUBMITTED;
+                submitting = false;
+
+                if (ordered) {
+                    pinnedNodeId = response.nodeId;
+                }
+            }
+
+            receipt.whenComplete((v, error) -> {
+                if (error == null) {
+                    done(chunk);
+                } else if (isNotApplied(error)) {
+                    // the chunk reached consensus, submitting it again would only be a duplicate
+                    failed(chunk, ChunkStatus.FAILED, error, false);
+                } else {
+                    // the chunk may still have reached consensus, which is looked up before it is submitted again
+                    failed(chunk, ChunkStatus.UNKNOWN, error, false);
+                }
+            });
+
+            submitChunks();
+        }
+
+        private void done(int chunk) {
+            synchronized (this) {
+                statuses[chunk] = ChunkStatus.SUCCEEDED;
+            }
+
+            try {
+                onChunkDone(chunk);
+            } catch (Throwable error) {
+                stop(error);
+            }
+
+            synchronized (this) {
+                inFlight -= 1;
+            }
+
+            submitChunks();
+        }
+
+        /**
+         * Give up on a chunk, and on the chunks after it if they must reach consensus in order or if
+         * {@code fatal}.
+         *
+         * @param status {@link ChunkStatus#FAILED}, or {@link ChunkStatus#UNKNOWN} if the chunk may have been applied
+         */
+        private void failed(int chunk, ChunkStatus status, Throwable error, boolean fatal) {
+            synchronized (this) {
+                statuses[chunk] = status;
+                inFlight -= 1;
+
+                if (ordered) {
+                    submitting = false;
+                }
+            }
+
+            if (ordered || fatal) {
+                stop(error);
+            } else {
+                synchronized (this) {
+                    if (firstError == null) {
+                        firstError = error;
+                    }
+                }
+            }
+
+            submitChunks();
+        }
+
+        /**
+         * Give up on an ordered chunk that was not accepted, after an earlier chunk failed.
+         */
+        private void abandon() {
+            synchronized (this) {
+                inFlight -= 1;
+                submitting = false;
+                halted = true;
+            }
+
+            submitChunks();
+        }
+
+        private synchronized void stop(Throwable error) {
+            halted = true;
+
+            if (firstError == null) {
+                firstError = error;
+            }
+        }
+
+        private void finish() {
+            // chunks that were applied changed the entity even if others failed
+            invalidateCaches(client);
+
+            @Nullable Throwable error;
+            List<TransactionResponse> finalResponses;
+
+            synchronized (this) {
+                error = firstError;
+                finalResponses = new ArrayList<>(Arrays.asList(responses));
+            }
+
+            if (error != null) {
+                // the statuses of the chunks are left to getChunkStatuses()
+                future.completeExceptionally(error);
+            } else {
+                future.complete(finalResponses);
+            }
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SHA-384 hash of each chunk of a chunked transaction, as it would be submitted to each node.
+ * <p>
+ * Hashes are held in a single array, indexed by chunk and then by node in the order of the node
+ * account IDs of the transaction.
+ *
+ * @see ChunkedTransaction#getAllTransactionHashes()
+ */
+public final class ChunkedTransactionHashes {
+    static final int HASH_SIZE = 48;
+
+    private final List<AccountId> nodeAccountIds;
+
+    private final int chunkCount;
+
+    private final byte[] hashes;
+
+    ChunkedTransactionHashes(List<AccountId> nodeAccountIds, int chunkCount, byte[] hashes) {
+        this.nodeAccountIds = Collections.unmodifiableList(new ArrayList<>(nodeAccountIds));
+        this.chunkCount = chunkCount;
+        this.hashes = hashes;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public List<AccountId> getNodeAccountIds() {
+        return nodeAccountIds;
+    }
+
+    /**
+     * @param chunk The index of the chunk
+     * @param node The index of the node within {@link #getNodeAccountIds()}
+     * @return the hash of the chunk as submitted to the node
+     */
+    public byte[] get(int chunk, int node) {
+        if (chunk < 0 || chunk >= chunkCount || node < 0 || node >= nodeAccountIds.size()) {
+            throw new IndexOutOfBoundsException(
+                "no hash for chunk " + chunk + " and node " + node + " of " + chunkCount + " chunks and "
+                    + nodeAccountIds.size() + " nodes");
+        }
+
+        var offset = (chunk * nodeAccountIds.size() + node) * HASH_SIZE;
+
+        return Arrays.copyOfRange(hashes, offset, offset + HASH_SIZE);
+    }
+
+    /**
+     * @param chunk The index of the chunk
+     * @param nodeId The account ID of the node
+     * @return the hash of the chunk as submitted to the node
+     */
+    public byte[] get(int chunk, AccountId nodeId) {
+        var node = nodeAccountIds.indexOf(nodeId);
+
+        if (node < 0) {
+            throw new IllegalArgumentException("the transaction is not submitted to node " + nodeId);
+        }
+
+        return get(chunk, node);
+    }
+
+    /**
+     * @return for each chunk, the hash of the chunk by the account ID of each node
+     */
+    public List<Map<AccountId, byte[]>> toList() {
+        var list = new ArrayList<Map<AccountId, byte[]>>(chunkCount);
+
+        for (var chunk = 0; chunk < chunkCount; chunk++) {
+            var chunkHashes = new HashMap<AccountId, byte[]>();
+
+            for (var node = 0; node < nodeAccountIds.size(); node++) {
+                chunkHashes.put(nodeAccountIds.get(node), get(chunk, node));
+            }
+
+            list.add(chunkHashes);
+        }
+
+        return list;
+    }
+}
@@ -41,6 +41,12 @@ public final class Client implements AutoCloseable {
 
     Duration requestTimeout = Duration.ofMinutes(2);
 
+    @Nullable
+    EntityInfoCache entityInfoCache;
+
+    @Nullable
+    ContractCallCache contractCallCache;
+
     Client(Map<String, AccountId> network) {
         var threadFactory = new ThreadFactoryBuilder()
             .setNameFormat("hedera-sdk-%d")
@@ -409,6 +415,44 @@ public final class Client implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Set a cache for entity info queries executed with this client.
+     * <p>
+     * Once set, {@link AccountInfoQuery}, {@link TokenInfoQuery}, {@link FileInfoQuery},
+     * {@link TopicInfoQuery} and {@link ContractInfoQuery} will return cached results where available.
+     * Pass {@code null} to disable caching.
+     *
+     * @param entityInfoCache The cache to use, or {@code null}
+     * @return {@code this}
+     */
+    public Client setEntityInfoCache(@Nullable EntityInfoCache entityInfoCache) {
+        this.entityInfoCache = entityInfoCache;
+        return this;
+    }
+
+    @Nullable
+    public EntityInfoCache getEntityInfoCache() {
+        return entityInfoCache;
+    }
+
+    /**
+     * Set a cache for the results of {@link ContractCallQuery} executed with this client.
+     * <p>
+     * Pass {@code null} to disable caching.
+     *
+     * @param contractCallCache The cache to use, or {@code null}
+     * @return {@code this}
+     */
+    public Client setContractCallCache(@Nullable ContractCallCache contractCallCache) {
+        this.contractCallCache = contractCallCache;
+        return this;
+    }
+
+    @Nullable
+    public ContractCallCache getContractCallCache() {
+        return contractCallCache;
+    }
+
     @Nullable
     Operator getOperator() {
         return this.operator;
@@ -0,0 +1,137 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * An optional, client-side cache for the results of {@link ContractCallQuery}.
+ * <p>
+ * When set on a {@link Client} with {@link Client#setContractCallCache(ContractCallCache)}, repeated local
+ * calls to the same contract with the same function selector and encoded parameters, gas, maximum result
+ * size and sender (the operator paying for the query) are answered from memory instead of paying for
+ * another query. Each call gets its own copy of the cached result.
+ * <p>
+ * Cached results for a contract are invalidated when the same client successfully submits a
+ * {@link ContractExecuteTransaction}, {@link ContractUpdateTransaction} or {@link ContractDeleteTransaction}
+ * for that contract, and again once that transaction reached consensus, so that a call answered in between
+ * is not served for the time-to-live. Contract state changed in any other way is only picked up once the entry expires, so
+ * this is only suitable for view functions whose results can tolerate being stale for the time-to-live.
+ */
+public final class ContractCallCache {
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+    final BoundedCache<CallKey, ContractFunctionResult> calls = new BoundedCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+
+    /**
+     * Create a cache holding at most 1000 results, each valid for 10 seconds.
+     */
+    public ContractCallCache() {
+    }
+
+    /**
+     * Set the eviction policy for cached call results.
+     *
+     * @param maxEntries the maximum number of results to hold; 0 disables caching
+     * @param timeToLive how long a result is served before the call is made again
+     * @return {@code this}
+     */
+    public ContractCallCache setPolicy(int maxEntries, Duration timeToLive) {
+        calls.setPolicy(maxEntries, timeToLive);
+        return this;
+    }
+
+    /**
+     * Remove every cached result for calls to the given contract.
+     *
+     * @param contractId The contract whose results should be dropped
+     */
+    public void invalidate(ContractId contractId) {
+        calls.invalidateIf(key -> key.contractId.equals(contractId));
+    }
+
+    /**
+     * Remove every cached result. Metrics are not reset.
+     */
+    public void invalidateAll() {
+        calls.clear();
+    }
+
+    /**
+     * @return the number of calls answered from the cache
+     */
+    public long getHitCount() {
+        return calls.getHitCount();
+    }
+
+    /**
+     * @return the number of calls that had to be sent to the network
+     */
+    public long getMissCount() {
+        return calls.getMissCount();
+    }
+
+    /**
+     * @return the number of results removed because they expired or the cache was full
+     */
+    public long getEvictionCount() {
+        return calls.getEvictionCount();
+    }
+
+    static final class CallKey {
+        final ContractId contractId;
+
+        // the encoded function call; the 4-byte function selector followed by the encoded parameters
+        final ByteString functionParameters;
+
+        // a call may run out of gas or exceed the result size with one limit and succeed with another
+        final long gas;
+
+        final long maxResultSize;
+
+        // the account paying for the query, which is the sender of the call
+        @Nullable
+        final AccountId senderId;
+
+        CallKey(
+            ContractId contractId,
+            ByteString functionParameters,
+            long gas,
+            long maxResultSize,
+            @Nullable AccountId senderId
+        ) {
+            this.contractId = contractId;
+            this.functionParameters = functionParameters;
+            this.gas = gas;
+            this.maxResultSize = maxResultSize;
+            this.senderId = senderId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(contractId, functionParameters, gas, maxResultSize, senderId);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof CallKey)) {
+                return false;
+            }
+
+            var other = (CallKey) o;
+            return contractId.equals(other.contractId)
+                && functionParameters.equals(other.functionParameters)
+                && gas == other.gas
+                && maxResultSize == other.maxResultSize
+                && Objects.equals(senderId, other.senderId);
+        }
+    }
+}
@@ -121,6 +121,25 @@ public final class ContractCallQuery extends Query<ContractFunctionResult, Contr
         return this;
     }
 
+    @Override
+    public CompletableFuture<ContractFunctionResult> executeAsync(Client client) {
+        var cache = client.contractCallCache;
+
+        if (cache == null) {
+            return super.executeAsync(client);
+        }
+
+        var key = new ContractCallCache.CallKey(
+            getContractId(),
+            builder.getFunctionParameters(),
+            builder.getGas(),
+            builder.getMaxResultSize(),
+            client.getOperatorAccountId());
+
+        // callers may modify the logs of their result, so none of them gets the cached one
+        return cache.calls.getOrLoadAsync(key, () -> super.executeAsync(client)).thenApply(ContractFunctionResult::copy);
+    }
+
     @Override
     void onMakeRequest(com.hedera.hashgraph.sdk.proto.Query.Builder queryBuilder, QueryHeader header) {
         queryBuilder.setContractCallLocal(builder.setHeader(header));
@@ -92,4 +92,28 @@ public final class ContractDeleteTransaction extends Transaction<ContractDeleteT
         bodyBuilder.setContractDeleteInstance(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    boolean onInvalidateContractCalls(ContractCallCache cache) {
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+            return true;
+        }
+
+        return false;
+    }
 }
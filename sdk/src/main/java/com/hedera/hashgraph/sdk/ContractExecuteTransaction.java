@@ -136,4 +136,16 @@ public final class ContractExecuteTransaction extends Transaction<ContractExecut
         bodyBuilder.setContractCall(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateContractCalls(ContractCallCache cache) {
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+            return true;
+        }
+
+        return false;
+    }
 }
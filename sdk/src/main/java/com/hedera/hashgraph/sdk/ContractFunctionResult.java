@@ -3,8 +3,6 @@ package com.hedera.hashgraph.sdk;
 import com.google.common.base.MoreObjects;
 import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.sdk.proto.ContractFunctionResultOrBuilder;
-import java8.util.stream.Collectors;
-import java8.util.stream.StreamSupport;
 import org.bouncycastle.util.encoders.Hex;
 
 import javax.annotation.Nullable;
@@ -40,7 +38,11 @@ public final class ContractFunctionResult {
 
     private final ByteString rawResult;
 
+    private final ContractFunctionResultOrBuilder inner;
+
     ContractFunctionResult(ContractFunctionResultOrBuilder inner) {
+        this.inner = inner;
+
         contractId = ContractId.fromProtobuf(inner.getContractID());
 
         String errMsg = inner.getErrorMessage();
@@ -62,7 +64,15 @@ public final class ContractFunctionResult {
 
         gasUsed = inner.getGasUsed();
 
-        logs = StreamSupport.stream(inner.getLogInfoList()).map(ContractLogInfo::fromProtobuf).collect(Collectors.toList());
+        // logs (with their blooms and topics) are only decoded once they are accessed
+        logs = new LazyList<>(inner.getLogInfoList(), ContractLogInfo::fromProtobuf);
+    }
+
+    /**
+     * @return a result decoded anew from the same response, which shares no mutable state with this one
+     */
+    ContractFunctionResult copy() {
+        return new ContractFunctionResult(inner);
     }
 
     /**
@@ -69,4 +69,15 @@ public final class ContractInfoQuery extends Query<ContractInfo, ContractInfoQue
     MethodDescriptor<com.hedera.hashgraph.sdk.proto.Query, Response> getMethodDescriptor() {
         return SmartContractServiceGrpc.getGetContractInfoMethod();
     }
+
+    @Override
+    public CompletableFuture<ContractInfo> executeAsync(Client client) {
+        var cache = client.entityInfoCache;
+
+        if (cache == null) {
+            return super.executeAsync(client);
+        }
+
+        return cache.contracts.getOrLoadAsync(getContractId(), () -> super.executeAsync(client));
+    }
 }
@@ -187,4 +187,28 @@ public final class ContractUpdateTransaction extends Transaction<ContractUpdateT
         bodyBuilder.setContractUpdateInstance(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    boolean onInvalidateContractCalls(ContractCallCache cache) {
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+            return true;
+        }
+
+        return false;
+    }
 }
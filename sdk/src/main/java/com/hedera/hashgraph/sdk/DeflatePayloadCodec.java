@@ -0,0 +1,95 @@
+package com.hedera.hashgraph.sdk;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A {@link PayloadCodec} that compresses payloads with deflate, in the zlib format.
+ */
+public final class DeflatePayloadCodec implements PayloadCodec {
+    static final int ID = 1;
+
+    private final int level;
+
+    public DeflatePayloadCodec() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level The compression level, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public DeflatePayloadCodec(int level) {
+        if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION) {
+            throw new IllegalArgumentException("level must be between 0 and 9");
+        }
+
+        this.level = level;
+    }
+
+    @Override
+    public int getId() {
+        return ID;
+    }
+
+    @Override
+    public byte[] encode(byte[] payload) {
+        var deflater = new Deflater(level);
+
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+
+            var output = new ByteArrayOutputStream(payload.length / 2 + 64);
+            var buffer = new byte[4096];
+
+            while (!deflater.finished()) {
+                output.write(buffer, 0, deflater.deflate(buffer));
+            }
+
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public byte[] decode(byte[] encoded, int decodedSize) {
+        var inflater = new Inflater();
+
+        try {
+            inflater.setInput(encoded);
+
+            // inflate a piece at a time rather than trusting the size in the header, so that a few bytes
+            // claiming a large size cannot make us allocate it
+            var output = new ByteArrayOutputStream(Math.min(decodedSize, 4096));
+            var buffer = new byte[4096];
+
+            while (!inflater.finished()) {
+                var inflated = inflater.inflate(buffer);
+
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("deflated payload is truncated");
+                }
+
+                if (output.size() + inflated > decodedSize) {
+                    throw new IllegalArgumentException("deflated payload is larger than its size of " + decodedSize + " bytes");
+                }
+
+                output.write(buffer, 0, inflated);
+            }
+
+            // the payload must be exactly as large as the header says, with nothing left over
+            if (output.size() != decodedSize || inflater.getRemaining() != 0) {
+                throw new IllegalArgumentException("deflated payload does not match its size of " + decodedSize + " bytes");
+            }
+
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("malformed deflated payload", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
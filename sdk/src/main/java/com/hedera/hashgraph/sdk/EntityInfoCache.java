@@ -0,0 +1,165 @@
+package com.hedera.hashgraph.sdk;
+
+import org.threeten.bp.Duration;
+
+/**
+ * An optional, client-side read-through cache for entity info queries.
+ * <p>
+ * When set on a {@link Client} with {@link Client#setEntityInfoCache(EntityInfoCache)}, the results of
+ * {@link AccountInfoQuery}, {@link TokenInfoQuery}, {@link FileInfoQuery}, {@link TopicInfoQuery} and
+ * {@link ContractInfoQuery} are served from memory until they expire or are evicted.
+ * <p>
+ * An entry is invalidated automatically when the same client successfully submits an update or delete
+ * transaction for that entity, and again once that transaction reached consensus, as a query answered in
+ * between still sees the entity as it was. To know when that is, the client fetches the receipt of each
+ * such transaction. Token mints, burns and wipes invalidate the token, and token wipes, freezes, KYC
+ * changes, associations and dissociations invalidate the account. State changed by other clients, or by
+ * other transaction types (e.g. a transfer changing an account balance, or a mint or burn changing the
+ * balance of the treasury), is only picked up once the entry expires; pick a time-to-live that matches
+ * how stale your application can tolerate the data to be.
+ */
+public final class EntityInfoCache {
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    final BoundedCache<AccountId, AccountInfo> accounts = new BoundedCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+
+    final BoundedCache<TokenId, TokenInfo> tokens = new BoundedCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+
+    final BoundedCache<FileId, FileInfo> files = new BoundedCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+
+    final BoundedCache<TopicId, TopicInfo> topics = new BoundedCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+
+    final BoundedCache<ContractId, ContractInfo> contracts = new BoundedCache<>(DEFAULT_MAX_ENTRIES, DEFAULT_TIME_TO_LIVE);
+
+    /**
+     * Create a cache holding at most 1000 entries per entity type, each valid for 30 seconds.
+     */
+    public EntityInfoCache() {
+    }
+
+    /**
+     * Set the eviction policy for cached {@link AccountInfo}.
+     *
+     * @param maxEntries the maximum number of accounts to hold; 0 disables caching of accounts
+     * @param timeToLive how long an entry is served before it is fetched again
+     * @return {@code this}
+     */
+    public EntityInfoCache setAccountInfoPolicy(int maxEntries, Duration timeToLive) {
+        accounts.setPolicy(maxEntries, timeToLive);
+        return this;
+    }
+
+    /**
+     * Set the eviction policy for cached {@link TokenInfo}.
+     *
+     * @param maxEntries the maximum number of tokens to hold; 0 disables caching of tokens
+     * @param timeToLive how long an entry is served before it is fetched again
+     * @return {@code this}
+     */
+    public EntityInfoCache setTokenInfoPolicy(int maxEntries, Duration timeToLive) {
+        tokens.setPolicy(maxEntries, timeToLive);
+        return this;
+    }
+
+    /**
+     * Set the eviction policy for cached {@link FileInfo}.
+     *
+     * @param maxEntries the maximum number of files to hold; 0 disables caching of files
+     * @param timeToLive how long an entry is served before it is fetched again
+     * @return {@code this}
+     */
+    public EntityInfoCache setFileInfoPolicy(int maxEntries, Duration timeToLive) {
+        files.setPolicy(maxEntries, timeToLive);
+        return this;
+    }
+
+    /**
+     * Set the eviction policy for cached {@link TopicInfo}.
+     *
+     * @param maxEntries the maximum number of topics to hold; 0 disables caching of topics
+     * @param timeToLive how long an entry is served before it is fetched again
+     * @return {@code this}
+     */
+    public EntityInfoCache setTopicInfoPolicy(int maxEntries, Duration timeToLive) {
+        topics.setPolicy(maxEntries, timeToLive);
+        return this;
+    }
+
+    /**
+     * Set the eviction policy for cached {@link ContractInfo}.
+     *
+     * @param maxEntries the maximum number of contracts to hold; 0 disables caching of contracts
+     * @param timeToLive how long an entry is served before it is fetched again
+     * @return {@code this}
+     */
+    public EntityInfoCache setContractInfoPolicy(int maxEntries, Duration timeToLive) {
+        contracts.setPolicy(maxEntries, timeToLive);
+        return this;
+    }
+
+    public void invalidate(AccountId accountId) {
+        accounts.invalidate(accountId);
+    }
+
+    public void invalidate(TokenId tokenId) {
+        tokens.invalidate(tokenId);
+    }
+
+    public void invalidate(FileId fileId) {
+        files.invalidate(fileId);
+    }
+
+    public void invalidate(TopicId topicId) {
+        topics.invalidate(topicId);
+    }
+
+    public void invalidate(ContractId contractId) {
+        contracts.invalidate(contractId);
+    }
+
+    /**
+     * Remove every cached entry. Metrics are not reset.
+     */
+    public void invalidateAll() {
+        accounts.clear();
+        tokens.clear();
+        files.clear();
+        topics.clear();
+        contracts.clear();
+    }
+
+    /**
+     * @return the number of queries answered from the cache
+     */
+    public long getHitCount() {
+        return accounts.getHitCount()
+            + tokens.getHitCount()
+            + files.getHitCount()
+            + topics.getHitCount()
+            + contracts.getHitCount();
+    }
+
+    /**
+     * @return the number of queries that had to be sent to the network
+     */
+    public long getMissCount() {
+        return accounts.getMissCount()
+            + tokens.getMissCount()
+            + files.getMissCount()
+            + topics.getMissCount()
+            + contracts.getMissCount();
+    }
+
+    /**
+     * @return the number of entries removed because they expired or the cache was full
+     */
+    public long getEvictionCount() {
+        return accounts.getEvictionCount()
+            + tokens.getEvictionCount()
+            + files.getEvictionCount()
+            + topics.getEvictionCount()
+            + contracts.getEvictionCount();
+    }
+}
@@ -0,0 +1,216 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The progress of appending contents to a file, one chunk at a time.
+ * <p>
+ * The progress records how many bytes of the contents are known to be appended and which chunks were
+ * submitted without their receipt being known yet. It can be stored with {@link #toBytes()} each time it
+ * is reported by {@link FileAppendTransaction#setProgressHandler(java8.util.function.Consumer)} and handed
+ * to {@link FileAppendTransaction#setResumeFrom(FileAppendProgress)} to continue an upload that was
+ * interrupted, without appending any chunk twice.
+ */
+public final class FileAppendProgress {
+    private static final int VERSION = 1;
+
+    private final FileId fileId;
+
+    private final long fileSizeBefore;
+
+    private final long contentsSize;
+
+    private long confirmedBytes = 0;
+
+    // chunks past the confirmed bytes, in the order they were submitted
+    private final List<PendingChunk> pending = new ArrayList<>();
+
+    FileAppendProgress(FileId fileId, long fileSizeBefore, long contentsSize) {
+        this.fileId = fileId;
+        this.fileSizeBefore = fileSizeBefore;
+        this.contentsSize = contentsSize;
+    }
+
+    public FileId getFileId() {
+        return fileId;
+    }
+
+    /**
+     * @return The size of the file before any of the contents were appended
+     */
+    public long getFileSizeBefore() {
+        return fileSizeBefore;
+    }
+
+    /**
+     * @return The size of all the contents to append
+     */
+    public long getContentsSize() {
+        return contentsSize;
+    }
+
+    /**
+     * @return The number of bytes at the start of the contents that are known to be appended
+     */
+    public synchronized long getConfirmedBytes() {
+        return confirmedBytes;
+    }
+
+    /**
+     * @return The transaction IDs of the chunks that were submitted but are not known to be appended
+     */
+    public synchronized List<TransactionId> getPendingTransactionIds() {
+        var transactionIds = new ArrayList<TransactionId>(pending.size());
+
+        for (var chunk : pending) {
+            if (!chunk.confirmed) {
+                transactionIds.add(chunk.transactionId);
+            }
+        }
+
+        return transactionIds;
+    }
+
+    public synchronized boolean isComplete() {
+        return confirmedBytes == contentsSize;
+    }
+
+    synchronized List<PendingChunk> getPendingChunks() {
+        return new ArrayList<>(pending);
+    }
+
+    synchronized void chunkSubmitting(TransactionId transactionId, long offset, int length) {
+        pending.add(new PendingChunk(transactionId, offset, length));
+    }
+
+    synchronized void chunkConfirmed(TransactionId transactionId) {
+        for (var chunk : pending) {
+            if (chunk.transactionId.equals(transactionId)) {
+                chunk.confirmed = true;
+            }
+        }
+
+        // the confirmed bytes only cover chunks without a gap before them
+        while (!pending.isEmpty() && pending.get(0).confirmed) {
+            var chunk = pending.remove(0);
+            confirmedBytes = chunk.offset + chunk.length;
+        }
+    }
+
+    /**
+     * Set the confirmed bytes once every pending chunk was looked up, before the rest of the contents
+     * are appended.
+     */
+    synchronized void resolved(long confirmedBytes) {
+        this.confirmedBytes = confirmedBytes;
+        pending.clear();
+    }
+
+    public synchronized byte[] toBytes() {
+        var bytes = new ByteArrayOutputStream();
+
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeBytes(out, fileId.toBytes());
+            out.writeLong(fileSizeBefore);
+            out.writeLong(contentsSize);
+            out.writeLong(confirmedBytes);
+            out.writeInt(pending.size());
+
+            for (var chunk : pending) {
+                writeBytes(out, chunk.transactionId.toBytes());
+                out.writeLong(chunk.offset);
+                out.writeInt(chunk.length);
+                out.writeBoolean(chunk.confirmed);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    public static FileAppendProgress fromBytes(byte[] bytes) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            var version = in.readByte();
+
+            if (version != VERSION) {
+                throw new IllegalArgumentException("unsupported file append progress version " + version);
+            }
+
+            var progress = new FileAppendProgress(FileId.fromBytes(readBytes(in)), in.readLong(), in.readLong());
+            progress.confirmedBytes = in.readLong();
+
+            var pendingCount = in.readInt();
+
+            for (var i = 0; i < pendingCount; i++) {
+                var chunk = new PendingChunk(TransactionId.fromBytes(readBytes(in)), in.readLong(), in.readInt());
+                chunk.confirmed = in.readBoolean();
+
+                progress.pending.add(chunk);
+            }
+
+            return progress;
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalArgumentException("malformed file append progress", e);
+        } catch (IOException e) {
+            // the input ended early
+            throw new IllegalArgumentException("truncated file append progress", e);
+        }
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        var length = in.readInt();
+
+        if (length < 0 || length > in.available()) {
+            throw new IOException("length " + length + " runs past the end of the input");
+        }
+
+        var bytes = new byte[length];
+        in.readFully(bytes);
+
+        return bytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("fileId", fileId)
+            .add("fileSizeBefore", fileSizeBefore)
+            .add("contentsSize", contentsSize)
+            .add("confirmedBytes", confirmedBytes)
+            .add("pendingTransactionIds", getPendingTransactionIds())
+            .toString();
+    }
+
+    static final class PendingChunk {
+        final TransactionId transactionId;
+
+        // where the chunk starts within the contents
+        final long offset;
+
+        final int length;
+
+        boolean confirmed = false;
+
+        PendingChunk(TransactionId transactionId, long offset, int length) {
+            this.transactionId = transactionId;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
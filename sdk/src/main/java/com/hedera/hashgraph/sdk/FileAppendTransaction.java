@@ -1,12 +1,17 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.errorprone.annotations.Var;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hashgraph.sdk.proto.*;
 import com.hedera.hashgraph.sdk.proto.TransactionResponse;
 import io.grpc.MethodDescriptor;
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.Consumer;
 
 import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.*;
 
 /**
@@ -18,6 +23,22 @@ import java.util.*;
 public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTransaction> {
     private final FileAppendTransactionBody.Builder builder;
 
+    @Nullable
+    private InputStream contentsStream;
+
+    @Nullable
+    private Consumer<FileAppendProgress> progressHandler;
+
+    @Nullable
+    private FileAppendProgress resumeFrom;
+
+    // the progress of the upload being executed
+    @Nullable
+    private FileAppendProgress progress;
+
+    // where the data of this execution starts within the contents, past the part appended before resuming
+    private long progressOffset = 0;
+
     public FileAppendTransaction() {
         super();
 
@@ -76,6 +97,7 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
      * @see #setContents(String) for an overload which takes {@link String}.
      */
     public FileAppendTransaction setContents(byte[] contents) {
+        contentsStream = null;
         return setData(contents);
     }
 
@@ -94,6 +116,7 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
      * @see #setContents(String) for an overload which takes {@link String}.
      */
     public FileAppendTransaction setContents(ByteString contents) {
+        contentsStream = null;
         return setData(contents);
     }
 
@@ -119,9 +142,385 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
      * @see #setContents(byte[]) for appending arbitrary data.
      */
     public FileAppendTransaction setContents(String text) {
+        contentsStream = null;
         return setData(text);
     }
 
+    /**
+     * <p>Stream the contents to append to the file as identified by {@link #setFileId(FileId)}.
+     *
+     * <p>The stream is read one chunk at a time when this transaction is executed. Each chunk is
+     * frozen, signed by the operator and submitted as its own {@link FileAppendTransaction}, and its
+     * receipt is awaited before the next chunk is read, so at most one chunk of the contents is held in
+     * memory. The stream is not closed.
+     *
+     * <p>A transaction with streamed contents cannot be frozen or signed ahead of execution, and the
+     * maximum number of chunks is not enforced. Chunks are {@link #getChunkSize()} bytes as an
+     * automatic chunk size can only be computed on freeze.
+     *
+     * @param contents the stream of contents to append to the file.
+     * @return {@code this}
+     */
+    public FileAppendTransaction setContents(InputStream contents) {
+        setData(ByteString.EMPTY);
+        contentsStream = contents;
+        return this;
+    }
+
+    @Override
+    public FileAppendTransaction freezeWith(@Nullable Client client) {
+        if (contentsStream != null) {
+            throw new IllegalStateException("contents set from an `InputStream` are frozen one chunk at a time on execute");
+        }
+
+        return super.freezeWith(client);
+    }
+
+    /**
+     * <p>Follow the progress of appending the contents, to be able to resume the upload should it be
+     * interrupted.
+     *
+     * <p>The handler is called with the {@link FileAppendProgress} before each chunk is submitted and
+     * once each chunk reached consensus, one call at a time. Storing the progress, e.g. with
+     * {@link FileAppendProgress#toBytes()}, before the handler returns guarantees that no chunk is
+     * submitted without being recorded. Should the handler throw, the upload stops.
+     *
+     * <p>The size of the file is looked up before the first chunk is submitted, so that chunks whose
+     * receipts are no longer available when resuming can be accounted for.
+     *
+     * @param progressHandler the handler to call with the progress of the upload.
+     * @return {@code this}
+     */
+    public FileAppendTransaction setProgressHandler(Consumer<FileAppendProgress> progressHandler) {
+        this.progressHandler = progressHandler;
+        return this;
+    }
+
+    /**
+     * <p>Continue an interrupted upload of the same contents to the same file.
+     *
+     * <p>Before anything is submitted, the chunks that were pending when the upload was interrupted are
+     * looked up by their receipts. Once a chunk is found not to be appended, the upload resumes from the
+     * start of that chunk, with new transaction IDs. When a receipt is no longer available, the size of
+     * the file tells how much of the contents was appended.
+     *
+     * <p>The transaction must not be frozen, as the remaining chunks are only known once the pending
+     * chunks were looked up.
+     *
+     * @param progress the progress recorded by the interrupted upload.
+     * @return {@code this}
+     */
+    public FileAppendTransaction setResumeFrom(FileAppendProgress progress) {
+        requireNotFrozen();
+        setFileId(progress.getFileId());
+        resumeFrom = progress;
+        return this;
+    }
+
+    @Override
+    public CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> executeAllAsync(Client client) {
+        if (contentsStream == null) {
+            if (progressHandler == null && resumeFrom == null) {
+                return super.executeAllAsync(client);
+            }
+
+            return executeTrackedAsync(client);
+        }
+
+        if (progressHandler != null || resumeFrom != null) {
+            throw new IllegalStateException("the progress of streamed contents can not be tracked");
+        }
+
+        if (getPayloadCodec() != null) {
+            throw new IllegalStateException("streamed contents can not be encoded with a payload codec");
+        }
+
+        return executeStreamAsync(client, contentsStream, new byte[getChunkSize()], new ArrayList<>());
+    }
+
+    private CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> executeStreamAsync(
+        Client client,
+        InputStream stream,
+        byte[] buffer,
+        List<com.hedera.hashgraph.sdk.TransactionResponse> responses
+    ) {
+        return CompletableFuture.supplyAsync(() -> readChunk(stream, buffer), client.executor).thenCompose(chunk -> {
+            if (chunk.isEmpty()) {
+                return CompletableFuture.completedFuture(responses);
+            }
+
+            // a single chunk transaction waits for its own receipt before completing
+            return makeChunkTransaction(chunk, responses.size()).executeAsync(client).thenCompose(response -> {
+                responses.add(response);
+                return executeStreamAsync(client, stream, buffer, responses);
+            });
+        });
+    }
+
+    private CompletableFuture<List<com.hedera.hashgraph.sdk.TransactionResponse>> executeTrackedAsync(Client client) {
+        var fileId = getFileId();
+
+        if (fileId == null) {
+            throw new IllegalStateException("the file ID must be set to track the progress of an upload");
+        }
+
+        if (progress != null && isFrozen()) {
+            // executed again after a failure; the chunks left to append were settled by the first execution
+            return super.executeAllAsync(client);
+        }
+
+        // the progress covers the encoded contents, which are what is appended
+        var contentsSize = getEncodedData().size();
+
+        var resumeFrom = this.resumeFrom;
+        CompletableFuture<FileAppendProgress> progressFuture;
+
+        if (resumeFrom != null) {
+            if (isFrozen()) {
+                throw new IllegalStateException("a resumed upload is frozen on execute, as the chunks left to append are not known before");
+            }
+
+            if (resumeFrom.getContentsSize() != contentsSize) {
+                throw new IllegalArgumentException(
+                    "the upload to resume had " + resumeFrom.getContentsSize() + " bytes of contents but "
+                        + contentsSize + " bytes were given");
+            }
+
+            progressFuture = resolvePendingAsync(client, resumeFrom, resumeFrom.getPendingChunks(), 0);
+        } else {
+            progressFuture = new FileInfoQuery()
+                .setFileId(fileId)
+                .executeAsync(client)
+                .thenApply(info -> new FileAppendProgress(fileId, info.size, contentsSize));
+        }
+
+        return progressFuture.thenCompose(progress -> {
+            progressOffset = resumeFrom != null ? progress.getConfirmedBytes() : 0;
+
+            if (resumeFrom != null) {
+                // the contents left to append are sliced anew, so are not the chunks of an earlier execution
+                resetChunkStatuses();
+
+                if (!transactionIds.isEmpty()) {
+                    // the chunks that were not appended may have expired, and must not be mistaken for them
+                    setTransactionId(TransactionId.generate(transactionIds.get(0).accountId));
+                }
+            }
+
+            this.progress = progress;
+            reportProgress(progress);
+
+            if (progress.isComplete()) {
+                return CompletableFuture.completedFuture(new ArrayList<>());
+            }
+
+            return super.executeAllAsync(client);
+        });
+    }
+
+    /**
+     * Look up the receipts of the chunks that were pending when the upload was interrupted, in the order
+     * they were submitted, up to the first one that was not appended, and make sure none after it was.
+     */
+    private CompletableFuture<FileAppendProgress> resolvePendingAsync(
+        Client client,
+        FileAppendProgress progress,
+        List<FileAppendProgress.PendingChunk> pending,
+        int index
+    ) {
+        if (index == pending.size()) {
+            progress.resolved(progress.getConfirmedBytes());
+            return CompletableFuture.completedFuture(progress);
+        }
+
+        var chunk = pending.get(index);
+
+        if (chunk.confirmed) {
+            progress.chunkConfirmed(chunk.transactionId);
+            return resolvePendingAsync(client, progress, pending, index + 1);
+        }
+
+        return chunk.transactionId.getReceiptAsync(client).handle((receipt, error) -> {
+            if (error == null) {
+                progress.chunkConfirmed(chunk.transactionId);
+                return resolvePendingAsync(client, progress, pending, index + 1);
+            }
+
+            if (isNotApplied(error)) {
+                // the chunk reached consensus but was not appended; with several chunks in flight, the
+                // chunks submitted after it may have been
+                return requireNoneAppendedAfterAsync(client, progress, pending, index, index + 1);
+            }
+
+            // the receipt is no longer available, so what was appended is told by the size of the file
+            return new FileInfoQuery()
+                .setFileId(progress.getFileId())
+                .executeAsync(client)
+                .thenApply(info -> {
+                    var appended = info.size - progress.getFileSizeBefore();
+
+                    if (appended < progress.getConfirmedBytes() || appended > progress.getContentsSize()) {
+                        throw new IllegalStateException(
+                            "file " + progress.getFileId() + " was modified outside of the upload to resume");
+                    }
+
+                    progress.resolved(appended);
+                    return progress;
+                });
+        }).thenCompose(x -> x);
+    }
+
+    /**
+     * Look up the receipts of the chunks that were pending after the first one that was not appended. If any
+     * of them was appended, the contents left can no longer be appended in order.
+     */
+    private CompletableFuture<FileAppendProgress> requireNoneAppendedAfterAsync(
+        Client client,
+        FileAppendProgress progress,
+        List<FileAppendProgress.PendingChunk> pending,
+        int failed,
+        int index
+    ) {
+        var failedChunk = pending.get(failed);
+
+        if (index == pending.size()) {
+            progress.resolved(failedChunk.offset);
+            return CompletableFuture.completedFuture(progress);
+        }
+
+        var chunk = pending.get(index);
+
+        if (chunk.confirmed) {
+            return CompletableFuture.failedFuture(appendedAfterFailure(chunk, failedChunk));
+        }
+
+        return chunk.transactionId.getReceiptAsync(client).handle((receipt, error) -> {
+            if (error == null) {
+                return CompletableFuture.<FileAppendProgress>failedFuture(appendedAfterFailure(chunk, failedChunk));
+            }
+
+            if (isNotApplied(error)) {
+                return requireNoneAppendedAfterAsync(client, progress, pending, failed, index + 1);
+            }
+
+            // the receipt is no longer available; had any chunk after the failed one been appended, the file
+            // would have grown past it
+            return new FileInfoQuery()
+                .setFileId(progress.getFileId())
+                .executeAsync(client)
+                .thenApply(info -> {
+                    if (info.size - progress.getFileSizeBefore() != failedChunk.offset) {
+                        throw new IllegalStateException(
+                            "file " + progress.getFileId() + " grew past the chunk at offset " + failedChunk.offset
+                                + " that failed, so the contents left can no longer be appended in order");
+                    }
+
+                    progress.resolved(failedChunk.offset);
+                    return progress;
+                });
+        }).thenCompose(x -> x);
+    }
+
+    private static IllegalStateException appendedAfterFailure(
+        FileAppendProgress.PendingChunk appended,
+        FileAppendProgress.PendingChunk failed
+    ) {
+        return new IllegalStateException(
+            "chunk at offset " + appended.offset + " was appended after the chunk at offset " + failed.offset
+                + " failed, so the contents left can no longer be appended in order");
+    }
+
+    private void reportProgress(FileAppendProgress progress) {
+        var progressHandler = this.progressHandler;
+
+        if (progressHandler != null) {
+            synchronized (progress) {
+                progressHandler.accept(progress);
+            }
+        }
+    }
+
+    @Override
+    boolean tracksChunks() {
+        return progress != null;
+    }
+
+    @Override
+    void onChunkSubmitting(int chunk) {
+        var progress = this.progress;
+
+        if (progress == null) {
+            return;
+        }
+
+        synchronized (progress) {
+            var startIndex = chunk * getChunkSize();
+            var length = Math.min(getChunkSize(), getPayload().size() - startIndex);
+
+            progress.chunkSubmitting(transactionIds.get(chunk), progressOffset + startIndex, length);
+            reportProgress(progress);
+        }
+    }
+
+    @Override
+    void onChunkDone(int chunk) {
+        var progress = this.progress;
+
+        if (progress == null) {
+            return;
+        }
+
+        synchronized (progress) {
+            progress.chunkConfirmed(transactionIds.get(chunk));
+            reportProgress(progress);
+        }
+    }
+
+    private FileAppendTransaction makeChunkTransaction(ByteString chunk, int index) {
+        var transaction = new FileAppendTransaction().setContents(chunk);
+
+        if (builder.hasFileID()) {
+            transaction.builder.setFileID(builder.getFileID());
+        }
+
+        transaction.bodyBuilder
+            .setTransactionFee(bodyBuilder.getTransactionFee())
+            .setTransactionValidDuration(bodyBuilder.getTransactionValidDuration())
+            .setMemo(bodyBuilder.getMemo());
+
+        if (!transactionIds.isEmpty()) {
+            // cascade an explicitly set transaction ID the same way chunks of a frozen transaction do
+            var initialTransactionId = transactionIds.get(0);
+            transaction.setTransactionId(new TransactionId(initialTransactionId.accountId, initialTransactionId.validStart.plusNanos(index)));
+        }
+
+        if (!nodeAccountIds.isEmpty()) {
+            transaction.setNodeAccountIds(nodeAccountIds);
+        }
+
+        return transaction.setMaxRetry(maxRetries);
+    }
+
+    private static ByteString readChunk(InputStream stream, byte[] buffer) {
+        @Var var length = 0;
+
+        try {
+            while (length < buffer.length) {
+                var read = stream.read(buffer, length, buffer.length - length);
+
+                if (read < 0) {
+                    break;
+                }
+
+                length += read;
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return ByteString.copyFrom(buffer, 0, length);
+    }
+
     @Override
     MethodDescriptor<com.hedera.hashgraph.sdk.proto.Transaction, TransactionResponse> getMethodDescriptor() {
         return FileServiceGrpc.getAppendContentMethod();
@@ -129,7 +528,15 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
 
     @Override
     void onFreezeChunk(TransactionBody.Builder body, TransactionID initialTransactionId, int startIndex, int endIndex, int chunk, int total) {
-        body.setFileAppend(builder.setContents(data.substring(startIndex, endIndex)));
+        body.setFileAppend(builder.setContents(getPayload().substring(startIndex, endIndex)));
+    }
+
+    @Override
+    ByteString getPayload() {
+        var payload = super.getPayload();
+
+        // a resumed upload only appends what comes after the part appended before
+        return progressOffset == 0 ? payload : payload.substring((int) progressOffset);
     }
 
     boolean shouldGetReceipt() {
@@ -141,4 +548,16 @@ public final class FileAppendTransaction extends ChunkedTransaction<FileAppendTr
         bodyBuilder.setFileAppend(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var fileId = getFileId();
+
+        if (fileId != null) {
+            cache.invalidate(fileId);
+            return true;
+        }
+
+        return false;
+    }
 }
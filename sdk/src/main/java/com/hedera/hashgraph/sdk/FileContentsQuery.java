@@ -9,12 +9,24 @@ import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import io.grpc.MethodDescriptor;
 import java8.util.concurrent.CompletableFuture;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * Get the contents of a file. The content field is empty (no bytes) if the file is empty.
  */
 public final class FileContentsQuery extends Query<ByteString, FileContentsQuery> {
     private final FileGetContentsQuery.Builder builder;
 
+    private List<PayloadCodec> payloadCodecs = Collections.emptyList();
+
     public FileContentsQuery() {
         this.builder = FileGetContentsQuery.newBuilder();
     }
@@ -34,6 +46,19 @@ public final class FileContentsQuery extends Query<ByteString, FileContentsQuery
         return this;
     }
 
+    /**
+     * Decode contents that were encoded by one of the given codecs. Contents that were not encoded, or
+     * were encoded by another codec, are returned as they are.
+     *
+     * @param payloadCodecs The codecs the contents may have been encoded with
+     * @return {@code this}
+     * @see ChunkedTransaction#setPayloadCodec(PayloadCodec)
+     */
+    public FileContentsQuery setPayloadCodecs(PayloadCodec... payloadCodecs) {
+        this.payloadCodecs = Arrays.asList(payloadCodecs);
+        return this;
+    }
+
     @Override
     public CompletableFuture<Hbar> getCostAsync(Client client) {
         // deleted accounts return a COST_ANSWER of zero which triggers `INSUFFICIENT_TX_FEE`
@@ -42,6 +67,85 @@ public final class FileContentsQuery extends Query<ByteString, FileContentsQuery
         return super.getCostAsync(client).thenApply((cost) -> Hbar.fromTinybars(Math.max(cost.toTinybars(), 25)));
     }
 
+    /**
+     * Execute this query and write the file contents to {@code sink}.
+     * <p>
+     * The contents are written straight from the response buffer without first being copied into
+     * an intermediate byte array. The sink is not flushed or closed.
+     *
+     * @param client The client with which this will be executed
+     * @param sink   The stream the file contents are written to
+     * @return a future that completes once every byte has been written
+     */
+    public CompletableFuture<Void> writeToAsync(Client client, OutputStream sink) {
+        return executeAsync(client).thenAccept(contents -> {
+            try {
+                contents.writeTo(sink);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+    }
+
+    /**
+     * Execute this query and copy the file contents into {@code sink}, advancing its position.
+     *
+     * @param client The client with which this will be executed
+     * @param sink   The buffer the file contents are copied into; must have enough space remaining
+     * @return a future that completes once every byte has been copied
+     */
+    public CompletableFuture<Void> writeToAsync(Client client, ByteBuffer sink) {
+        return executeAsync(client).thenAccept(contents -> contents.copyTo(sink));
+    }
+
+    /**
+     * Execute this query and write the file contents to {@code sink}.
+     *
+     * @param client The client with which this will be executed
+     * @param sink   The stream the file contents are written to
+     * @throws IOException if writing to the sink fails
+     * @see #writeToAsync(Client, OutputStream)
+     */
+    public void writeTo(Client client, OutputStream sink) throws TimeoutException, PrecheckStatusException, IOException {
+        waitFor(client, writeToAsync(client, sink));
+    }
+
+    /**
+     * Execute this query and copy the file contents into {@code sink}, advancing its position.
+     *
+     * @param client The client with which this will be executed
+     * @param sink   The buffer the file contents are copied into; must have enough space remaining
+     * @see #writeToAsync(Client, ByteBuffer)
+     */
+    public void writeTo(Client client, ByteBuffer sink) throws TimeoutException, PrecheckStatusException {
+        try {
+            waitFor(client, writeToAsync(client, sink));
+        } catch (IOException e) {
+            // never thrown when writing to a buffer
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void waitFor(Client client, CompletableFuture<Void> future) throws TimeoutException, PrecheckStatusException, IOException {
+        try {
+            future.get(client.requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            var cause = e.getCause();
+
+            if (cause instanceof PrecheckStatusException) {
+                throw (PrecheckStatusException) cause;
+            }
+
+            if (cause != null && cause.getCause() instanceof IOException) {
+                throw (IOException) cause.getCause();
+            }
+
+            throw new RuntimeException(cause != null ? cause : e);
+        }
+    }
+
     @Override
     void onMakeRequest(com.hedera.hashgraph.sdk.proto.Query.Builder queryBuilder, QueryHeader header) {
         queryBuilder.setFileGetContents(builder.setHeader(header));
@@ -59,7 +163,11 @@ public final class FileContentsQuery extends Query<ByteString, FileContentsQuery
 
     @Override
     ByteString mapResponse(Response response, AccountId nodeId, com.hedera.hashgraph.sdk.proto.Query request) {
-        return response.getFileGetContents().getFileContents().getContents();
+        return PayloadEncoding.decode(
+            response.getFileGetContents().getFileContents().getContents(),
+            payloadCodecs,
+            PayloadEncoding.DEFAULT_MAX_DECODED_SIZE
+        );
     }
 
     @Override
@@ -60,4 +60,16 @@ public final class FileDeleteTransaction extends Transaction<FileDeleteTransacti
         bodyBuilder.setFileDelete(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var fileId = getFileId();
+
+        if (fileId != null) {
+            cache.invalidate(fileId);
+            return true;
+        }
+
+        return false;
+    }
 }
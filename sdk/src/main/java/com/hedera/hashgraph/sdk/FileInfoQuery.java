@@ -73,4 +73,15 @@ public final class FileInfoQuery extends Query<FileInfo, FileInfoQuery> {
         // `FILE_DELETED` back instead.
         return super.getCostAsync(client).thenApply((cost) -> Hbar.fromTinybars(Math.max(cost.toTinybars(), 25)));
     }
+
+    @Override
+    public CompletableFuture<FileInfo> executeAsync(Client client) {
+        var cache = client.entityInfoCache;
+
+        if (cache == null) {
+            return super.executeAsync(client);
+        }
+
+        return cache.files.getOrLoadAsync(getFileId(), () -> super.executeAsync(client));
+    }
 }
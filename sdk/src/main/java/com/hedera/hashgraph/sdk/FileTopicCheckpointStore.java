@@ -0,0 +1,292 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link TopicCheckpointStore} backed by an append-only file.
+ * <p>
+ * Each checkpoint is appended as one line; the file is synced to the storage device once
+ * {@code maxUnsyncedWrites} checkpoints were appended or {@code maxSyncDelay} has passed since the first
+ * checkpoint after the last sync, whichever comes first, and when the store is flushed or closed.
+ * <p>
+ * Delivery resumed from this store is at least once: after a crash, the checkpoints saved since the last
+ * sync are lost, and the messages after the last synced checkpoint are received again, including messages
+ * that were already handled.
+ * <p>
+ * The file is compacted to one line per topic when the store is opened and whenever it holds many more
+ * lines than topics. A line that was torn by a crash is ignored.
+ */
+public final class FileTopicCheckpointStore implements TopicCheckpointStore, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(FileTopicCheckpointStore.class);
+
+    private static final int DEFAULT_MAX_UNSYNCED_WRITES = 100;
+
+    private static final Duration DEFAULT_MAX_SYNC_DELAY = Duration.ofSeconds(1);
+
+    // compact once the file holds this many lines per topic
+    private static final int COMPACT_RATIO = 64;
+
+    private final File file;
+
+    private final HashMap<TopicId, TopicCheckpoint> checkpoints = new HashMap<>();
+
+    private FileOutputStream output;
+
+    private Writer writer;
+
+    private int maxUnsyncedWrites = DEFAULT_MAX_UNSYNCED_WRITES;
+
+    private long maxSyncDelayNanos = DEFAULT_MAX_SYNC_DELAY.toNanos();
+
+    private int unsyncedWrites = 0;
+
+    private long lastSyncAt = System.nanoTime();
+
+    private long linesWritten = 0;
+
+    // whether a timer is set to sync the checkpoints saved since the last sync
+    private boolean syncScheduled = false;
+
+    private boolean closed = false;
+
+    /**
+     * Open the store, creating {@code file} if it does not exist.
+     *
+     * @param file The file holding the checkpoints
+     * @throws IOException if the file cannot be read or written
+     */
+    public FileTopicCheckpointStore(File file) throws IOException {
+        this.file = file;
+
+        if (file.exists()) {
+            read(file);
+        } else {
+            var compacted = compactedFile();
+
+            // a compaction that had to delete the file before renaming over it left only the compacted file,
+            // which was synced before the file was deleted
+            if (compacted.exists()) {
+                read(compacted);
+            }
+        }
+
+        compact();
+
+        output = new FileOutputStream(file, true);
+        writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Set how often appended checkpoints are synced to the storage device.
+     *
+     * @param maxUnsyncedWrites The number of checkpoints appended before a sync; 1 syncs every checkpoint
+     * @param maxSyncDelay The longest time a saved checkpoint waits for a sync
+     * @return {@code this}
+     */
+    public synchronized FileTopicCheckpointStore setSyncPolicy(int maxUnsyncedWrites, Duration maxSyncDelay) {
+        if (maxUnsyncedWrites <= 0) {
+            throw new IllegalArgumentException("maxUnsyncedWrites must be positive");
+        }
+
+        if (maxSyncDelay.isNegative()) {
+            throw new IllegalArgumentException("maxSyncDelay must be non-negative");
+        }
+
+        this.maxUnsyncedWrites = maxUnsyncedWrites;
+        this.maxSyncDelayNanos = maxSyncDelay.toNanos();
+        return this;
+    }
+
+    @Nullable
+    @Override
+    public synchronized TopicCheckpoint load(TopicId topicId) {
+        return checkpoints.get(topicId);
+    }
+
+    @Override
+    public synchronized void save(TopicId topicId, TopicCheckpoint checkpoint) {
+        checkpoints.put(topicId, checkpoint);
+
+        try {
+            writer.write(format(topicId, checkpoint));
+            linesWritten += 1;
+            unsyncedWrites += 1;
+
+            if (unsyncedWrites == 1) {
+                // the delay counts from the first checkpoint that waits for a sync
+                lastSyncAt = System.nanoTime();
+            }
+
+            if (linesWritten > (long) COMPACT_RATIO * checkpoints.size()) {
+                writer.close();
+
+                try {
+                    compact();
+                } finally {
+                    // keep appending to whichever file is in place, so that a failed compaction does not
+                    // fail every later save
+                    output = new FileOutputStream(file, true);
+                    writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+                }
+            } else if (unsyncedWrites >= maxUnsyncedWrites || System.nanoTime() - lastSyncAt >= maxSyncDelayNanos) {
+                sync();
+            } else {
+                scheduleSync();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Sync every checkpoint saved so far to the storage device.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void flush() throws IOException {
+        sync();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+
+        sync();
+        writer.close();
+    }
+
+    /**
+     * Set a timer to sync once the first checkpoint waiting for a sync has waited {@code maxSyncDelay}, so
+     * that it is synced even if no other checkpoint is saved.
+     */
+    private void scheduleSync() {
+        if (syncScheduled) {
+            return;
+        }
+
+        syncScheduled = true;
+
+        var delayNanos = Math.max(0, maxSyncDelayNanos - (System.nanoTime() - lastSyncAt));
+
+        CompletableFuture.runAsync(
+            this::syncOnTimer,
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    private synchronized void syncOnTimer() {
+        syncScheduled = false;
+
+        if (closed || unsyncedWrites == 0) {
+            return;
+        }
+
+        if (System.nanoTime() - lastSyncAt < maxSyncDelayNanos) {
+            // the policy changed, or a sync and a newer checkpoint came in between
+            scheduleSync();
+            return;
+        }
+
+        try {
+            sync();
+        } catch (IOException e) {
+            // the checkpoints are synced again with the next save, flush or close
+            logger.warn("failed to sync checkpoint file {}", file, e);
+        }
+    }
+
+    private void sync() throws IOException {
+        writer.flush();
+        output.getFD().sync();
+
+        unsyncedWrites = 0;
+        lastSyncAt = System.nanoTime();
+    }
+
+    private void read(File source) throws IOException {
+        try (var reader = new BufferedReader(new InputStreamReader(new FileInputStream(source), StandardCharsets.UTF_8))) {
+            for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                parse(line);
+            }
+        }
+    }
+
+    private void parse(String line) {
+        var parts = line.split(" ");
+
+        if (parts.length != 4) {
+            // torn by a crash while appending
+            return;
+        }
+
+        try {
+            var topicId = TopicId.fromString(parts[0]);
+            var sequenceNumber = Long.parseLong(parts[1]);
+            var consensusTimestamp = Instant.ofEpochSecond(Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+
+            checkpoints.put(topicId, new TopicCheckpoint(sequenceNumber, consensusTimestamp));
+        } catch (RuntimeException e) {
+            // torn by a crash while appending
+        }
+    }
+
+    /**
+     * Rewrite the file with only the latest checkpoint of each topic. The new file is written and synced
+     * beside the old one and then renamed over it, so a crash leaves one or the other intact.
+     */
+    private void compact() throws IOException {
+        var compacted = compactedFile();
+
+        try (var compactedOutput = new FileOutputStream(compacted)) {
+            var compactedWriter = new OutputStreamWriter(compactedOutput, StandardCharsets.UTF_8);
+
+            for (Map.Entry<TopicId, TopicCheckpoint> entry : checkpoints.entrySet()) {
+                compactedWriter.write(format(entry.getKey(), entry.getValue()));
+            }
+
+            compactedWriter.flush();
+            compactedOutput.getFD().sync();
+        }
+
+        if (!compacted.renameTo(file)) {
+            // some platforms do not rename over an existing file
+            if (!file.delete() || !compacted.renameTo(file)) {
+                throw new FileNotFoundException("failed to replace checkpoint file " + file);
+            }
+        }
+
+        linesWritten = checkpoints.size();
+        unsyncedWrites = 0;
+        lastSyncAt = System.nanoTime();
+    }
+
+    private File compactedFile() {
+        return new File(file.getPath() + ".tmp");
+    }
+
+    private static String format(TopicId topicId, TopicCheckpoint checkpoint) {
+        return topicId + " "
+            + checkpoint.sequenceNumber + " "
+            + checkpoint.consensusTimestamp.getEpochSecond() + " "
+            + checkpoint.consensusTimestamp.getNano() + "\n";
+    }
+}
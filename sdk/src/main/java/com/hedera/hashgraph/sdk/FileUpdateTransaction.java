@@ -159,4 +159,16 @@ public final class FileUpdateTransaction extends Transaction<FileUpdateTransacti
         bodyBuilder.setFileUpdate(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var fileId = getFileId();
+
+        if (fileId != null) {
+            cache.invalidate(fileId);
+            return true;
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,31 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Remembers the files created for contents that were uploaded before, by the SHA-384 hash of the
+ * contents, so that uploading the same contents again can reuse the file.
+ * <p>
+ * A cache must only be used with a single network, as file IDs are only meaningful on the network
+ * they were created on.
+ *
+ * @see FileUploader#setCache(FileUploadCache)
+ * @see InMemoryFileUploadCache
+ * @see LocalFileUploadCache
+ */
+public interface FileUploadCache {
+    /**
+     * @param contentHash The SHA-384 hash of the contents
+     * @return the file last created with the contents, or {@code null} if there is none
+     */
+    @Nullable
+    FileId get(byte[] contentHash);
+
+    /**
+     * Record that a file was created with the contents.
+     *
+     * @param contentHash The SHA-384 hash of the contents
+     * @param fileId The file holding the contents
+     */
+    void put(byte[] contentHash, FileId fileId);
+}
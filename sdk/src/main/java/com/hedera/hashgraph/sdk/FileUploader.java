@@ -0,0 +1,347 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.Supplier;
+import org.bouncycastle.util.encoders.Hex;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+
+/**
+ * Uploads many files at once.
+ * <p>
+ * Each file is created with the first chunk of its contents, and the remaining chunks are appended
+ * one after another, each after the previous chunk reached consensus. Chunks of different files are
+ * submitted at the same time, up to {@code maxInFlight} transactions across all files, so uploading
+ * many files takes about as long as the network takes to accept that many transactions rather than as
+ * long as the largest file.
+ * <p>
+ * Files are created with the key of the operator of the client, which signs every transaction.
+ * <p>
+ * With a {@link FileUploadCache}, contents that were uploaded before reuse their file once a
+ * {@link FileContentsQuery} confirmed that the file still holds them, and identical contents given
+ * together are uploaded once.
+ */
+public final class FileUploader {
+    private static final int DEFAULT_MAX_IN_FLIGHT = 8;
+
+    // room for the body of the create transaction, which also carries the key of the file, next to its chunk
+    private static final int CREATE_BODY_SIZE = 256;
+
+    /**
+     * Largest chunk that fits within the transaction size limit next to the body and signature of a
+     * create or append transaction of the uploader.
+     */
+    static final int MAX_CHUNK_SIZE = ChunkedTransaction.MAX_CHUNK_SIZE - CREATE_BODY_SIZE;
+
+    private final Client client;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    private int chunkSize = ChunkedTransaction.CHUNK_SIZE;
+
+    // transactions submitted and waiting on their receipt
+    private int inFlight = 0;
+
+    // transactions waiting for one of those to finish
+    private final Queue<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+
+    private long bytesUploaded = 0;
+
+    private long transactionsCompleted = 0;
+
+    private int filesUploaded = 0;
+
+    private int filesReused = 0;
+
+    @Nullable
+    private FileUploadCache cache;
+
+    // when the first upload started, in System#nanoTime
+    @Nullable
+    private Long startedAt;
+
+    public FileUploader(Client client) {
+        this.client = client;
+    }
+
+    /**
+     * Set the number of transactions that may wait on their receipt at the same time, across all files.
+     * Defaults to 8.
+     *
+     * @param maxInFlight The number of transactions in flight
+     * @return {@code this}
+     */
+    public synchronized FileUploader setMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Set the number of bytes of contents in each transaction. Defaults to 4096.
+     * <p>
+     * A chunk must fit within the transaction size limit of the network next to the rest of the
+     * transaction, which leaves room for at most 5754 bytes.
+     *
+     * @param chunkSize The number of bytes in each chunk
+     * @return {@code this}
+     */
+    public FileUploader setChunkSize(int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be positive and at most " + MAX_CHUNK_SIZE);
+        }
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Reuse the files of contents that were uploaded before.
+     *
+     * @param cache The cache of files created by earlier uploads
+     * @return {@code this}
+     */
+    public synchronized FileUploader setCache(FileUploadCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
+    /**
+     * Upload each of the given contents to a new file.
+     *
+     * @param contents The contents of each file
+     * @return a future of the IDs of the files, in the order of their contents, which fails if any of the
+     *     files failed to upload; the other files are still uploaded
+     */
+    public CompletableFuture<List<FileId>> uploadAsync(List<ByteString> contents) {
+        var operatorKey = client.getOperatorPublicKey();
+
+        if (operatorKey == null) {
+            throw new IllegalStateException("`client` must have an `operator` to upload files");
+        }
+
+        synchronized (this) {
+            if (startedAt == null) {
+                startedAt = System.nanoTime();
+            }
+        }
+
+        var uploads = new ArrayList<CompletableFuture<FileId>>(contents.size());
+
+        var cache = this.cache;
+
+        if (cache == null) {
+            for (var fileContents : contents) {
+                uploads.add(uploadFileAsync(operatorKey, fileContents));
+            }
+        } else {
+            // identical contents given together share one upload
+            var uploadsByHash = new HashMap<String, CompletableFuture<FileId>>();
+
+            for (var fileContents : contents) {
+                var contentHash = Transaction.hash(fileContents.toByteArray());
+                var hash = Hex.toHexString(contentHash);
+                @Var var upload = uploadsByHash.get(hash);
+
+                if (upload == null) {
+                    upload = uploadCachedFileAsync(cache, operatorKey, fileContents, contentHash);
+                    uploadsByHash.put(hash, upload);
+                }
+
+                uploads.add(upload);
+            }
+        }
+
+        return CompletableFuture.allOf(uploads.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+            var fileIds = new ArrayList<FileId>(uploads.size());
+
+            for (var upload : uploads) {
+                fileIds.add(upload.join());
+            }
+
+            return fileIds;
+        });
+    }
+
+    private CompletableFuture<FileId> uploadCachedFileAsync(
+        FileUploadCache cache,
+        PublicKey key,
+        ByteString contents,
+        byte[] contentHash
+    ) {
+        var cachedFileId = cache.get(contentHash);
+
+        if (cachedFileId == null) {
+            return uploadFileAsync(key, contents).thenApply(fileId -> {
+                cache.put(contentHash, fileId);
+                return fileId;
+            });
+        }
+
+        return withPermit(() -> new FileContentsQuery()
+            .setFileId(cachedFileId)
+            .executeAsync(client)
+        ).handle((existing, error) -> {
+            if (error == null && Arrays.equals(Transaction.hash(existing.toByteArray()), contentHash)) {
+                reused();
+                return CompletableFuture.completedFuture(cachedFileId);
+            }
+
+            // the file was deleted or changed since it was cached
+            return uploadFileAsync(key, contents).thenApply(fileId -> {
+                cache.put(contentHash, fileId);
+                return fileId;
+            });
+        }).thenCompose(x -> x);
+    }
+
+    private CompletableFuture<FileId> uploadFileAsync(PublicKey key, ByteString contents) {
+        var firstChunk = contents.substring(0, Math.min(chunkSize, contents.size()));
+
+        return withPermit(() -> new FileCreateTransaction()
+            .setKeys(key)
+            .setContents(firstChunk.toByteArray())
+            .executeAsync(client)
+            .thenCompose(response -> response.getReceiptAsync(client))
+        ).thenCompose(receipt -> {
+            var fileId = Objects.requireNonNull(receipt.fileId);
+
+            uploaded(firstChunk.size(), contents.size() == firstChunk.size());
+
+            return appendAsync(fileId, contents, firstChunk.size()).thenApply(v -> fileId);
+        });
+    }
+
+    private CompletableFuture<Void> appendAsync(FileId fileId, ByteString contents, int offset) {
+        if (offset >= contents.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var chunk = contents.substring(offset, Math.min(offset + chunkSize, contents.size()));
+
+        // a single chunk append waits on its own receipt
+        return withPermit(() -> new FileAppendTransaction()
+            .setFileId(fileId)
+            .setChunkSize(chunkSize)
+            .setContents(chunk)
+            .executeAsync(client)
+        ).thenCompose(response -> {
+            var end = offset + chunk.size();
+
+            uploaded(chunk.size(), end == contents.size());
+
+            return appendAsync(fileId, contents, end);
+        });
+    }
+
+    private <T> CompletableFuture<T> withPermit(Supplier<CompletableFuture<T>> task) {
+        var future = acquire().thenCompose(v -> task.get());
+
+        future.whenComplete((result, error) -> release());
+
+        return future;
+    }
+
+    synchronized CompletableFuture<Void> acquire() {
+        if (inFlight < maxInFlight) {
+            inFlight += 1;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var permit = new CompletableFuture<Void>();
+        waiting.add(permit);
+
+        return permit;
+    }
+
+    void release() {
+        CompletableFuture<Void> next;
+
+        synchronized (this) {
+            next = waiting.poll();
+
+            if (next == null) {
+                inFlight -= 1;
+                return;
+            }
+        }
+
+        // hand the permit over to the next transaction waiting on one
+        next.complete(null);
+    }
+
+    private synchronized void uploaded(int bytes, boolean lastChunk) {
+        bytesUploaded += bytes;
+        transactionsCompleted += 1;
+
+        if (lastChunk) {
+            filesUploaded += 1;
+        }
+    }
+
+    private synchronized void reused() {
+        filesReused += 1;
+    }
+
+    /**
+     * @return The number of files reused from the cache instead of being uploaded
+     */
+    public synchronized int getFilesReused() {
+        return filesReused;
+    }
+
+    /**
+     * @return The number of bytes of contents that reached consensus
+     */
+    public synchronized long getBytesUploaded() {
+        return bytesUploaded;
+    }
+
+    /**
+     * @return The number of transactions that reached consensus
+     */
+    public synchronized long getTransactionsCompleted() {
+        return transactionsCompleted;
+    }
+
+    /**
+     * @return The number of files whose contents were uploaded completely
+     */
+    public synchronized int getFilesUploaded() {
+        return filesUploaded;
+    }
+
+    /**
+     * @return The number of transactions waiting on their receipt
+     */
+    public synchronized int getTransactionsInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return The number of bytes of contents uploaded per second since the first upload started
+     */
+    public synchronized double getBytesPerSecond() {
+        var startedAt = this.startedAt;
+
+        if (startedAt == null) {
+            return 0;
+        }
+
+        var seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        return seconds > 0 ? bytesUploaded / seconds : 0;
+    }
+}
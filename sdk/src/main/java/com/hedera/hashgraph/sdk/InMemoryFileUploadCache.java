@@ -0,0 +1,24 @@
+package com.hedera.hashgraph.sdk;
+
+import org.bouncycastle.util.encoders.Hex;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+
+/**
+ * A {@link FileUploadCache} that only lives as long as the process.
+ */
+public final class InMemoryFileUploadCache implements FileUploadCache {
+    private final HashMap<String, FileId> fileIds = new HashMap<>();
+
+    @Nullable
+    @Override
+    public synchronized FileId get(byte[] contentHash) {
+        return fileIds.get(Hex.toHexString(contentHash));
+    }
+
+    @Override
+    public synchronized void put(byte[] contentHash, FileId fileId) {
+        fileIds.put(Hex.toHexString(contentHash), fileId);
+    }
+}
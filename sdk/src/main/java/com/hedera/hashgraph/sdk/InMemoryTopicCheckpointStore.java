@@ -0,0 +1,23 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+
+/**
+ * A {@link TopicCheckpointStore} that only lives as long as the process; useful to resume subscriptions
+ * after a reconnect or to share progress between subscriptions in tests.
+ */
+public final class InMemoryTopicCheckpointStore implements TopicCheckpointStore {
+    private final HashMap<TopicId, TopicCheckpoint> checkpoints = new HashMap<>();
+
+    @Nullable
+    @Override
+    public synchronized TopicCheckpoint load(TopicId topicId) {
+        return checkpoints.get(topicId);
+    }
+
+    @Override
+    public synchronized void save(TopicId topicId, TopicCheckpoint checkpoint) {
+        checkpoints.put(topicId, checkpoint);
+    }
+}
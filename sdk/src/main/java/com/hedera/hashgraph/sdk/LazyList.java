@@ -0,0 +1,82 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.function.Function;
+
+import javax.annotation.Nullable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list that decodes each element of a protobuf repeated field the first time it is accessed and
+ * remembers the result.
+ * <p>
+ * The list can be modified like the {@link ArrayList} that was decoded up front before; elements that are
+ * set or added are kept as they are. Safe for concurrent use.
+ */
+final class LazyList<P, T> extends AbstractList<T> implements RandomAccess {
+    // the protobuf element until it is decoded, and null after, or for an element that was set or added
+    private final ArrayList<P> source;
+
+    private final ArrayList<T> decoded;
+
+    private final Function<P, T> decoder;
+
+    LazyList(List<P> source, Function<P, T> decoder) {
+        this.source = new ArrayList<>(source);
+        this.decoder = decoder;
+        this.decoded = new ArrayList<>(source.size());
+
+        for (var i = 0; i < source.size(); i++) {
+            decoded.add(null);
+        }
+    }
+
+    @Override
+    public synchronized T get(int index) {
+        var element = source.get(index);
+
+        if (element == null) {
+            return decoded.get(index);
+        }
+
+        var value = decoder.apply(element);
+        decoded.set(index, value);
+
+        // release the protobuf element
+        source.set(index, null);
+
+        return value;
+    }
+
+    @Override
+    public synchronized T set(int index, @Nullable T element) {
+        var previous = get(index);
+        decoded.set(index, element);
+
+        return previous;
+    }
+
+    @Override
+    public synchronized void add(int index, @Nullable T element) {
+        source.add(index, null);
+        decoded.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public synchronized T remove(int index) {
+        var previous = get(index);
+        source.remove(index);
+        decoded.remove(index);
+        modCount++;
+
+        return previous;
+    }
+
+    @Override
+    public synchronized int size() {
+        return source.size();
+    }
+}
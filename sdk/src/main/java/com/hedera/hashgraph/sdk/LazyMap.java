@@ -0,0 +1,79 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A map whose contents are built by {@code decoder} the first time the map is accessed.
+ * <p>
+ * The map can be modified like the {@link java.util.HashMap} that was built up front before. Building it
+ * is safe for concurrent use; the decoder runs at most once.
+ */
+final class LazyMap<K, V> extends AbstractMap<K, V> {
+    @Nullable
+    private Supplier<Map<K, V>> decoder;
+
+    @Nullable
+    private volatile Map<K, V> decoded;
+
+    LazyMap(Supplier<Map<K, V>> decoder) {
+        this.decoder = decoder;
+    }
+
+    private Map<K, V> decoded() {
+        var map = decoded;
+
+        if (map != null) {
+            return map;
+        }
+
+        synchronized (this) {
+            if (decoded == null) {
+                decoded = Objects.requireNonNull(decoder).get();
+
+                // release whatever the decoder captured
+                decoder = null;
+            }
+
+            return Objects.requireNonNull(decoded);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return decoded().entrySet();
+    }
+
+    @Override
+    public int size() {
+        return decoded().size();
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return decoded().containsKey(key);
+    }
+
+    @Override
+    @Nullable
+    public V get(@Nullable Object key) {
+        return decoded().get(key);
+    }
+
+    @Override
+    @Nullable
+    public V put(K key, V value) {
+        return decoded().put(key, value);
+    }
+
+    @Override
+    @Nullable
+    public V remove(@Nullable Object key) {
+        return decoded().remove(key);
+    }
+}
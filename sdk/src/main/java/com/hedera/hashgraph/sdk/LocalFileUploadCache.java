@@ -0,0 +1,92 @@
+package com.hedera.hashgraph.sdk;
+
+import org.bouncycastle.util.encoders.Hex;
+
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * A {@link FileUploadCache} backed by an append-only file, so that files can be reused across runs.
+ * <p>
+ * Each file created is appended as one line and synced to the storage device right away, as files
+ * are created rarely compared to what an upload costs. A later line for the same contents replaces
+ * an earlier one. A line that was torn by a crash is ignored, or points to a file that the
+ * {@link FileUploader} finds to hold other contents and uploads again.
+ */
+public final class LocalFileUploadCache implements FileUploadCache, Closeable {
+    private final HashMap<String, FileId> fileIds = new HashMap<>();
+
+    private final FileOutputStream output;
+
+    private final Writer writer;
+
+    /**
+     * Open the cache, creating {@code file} if it does not exist.
+     *
+     * @param file The file holding the index of uploaded contents
+     * @throws IOException if the file cannot be read or written
+     */
+    public LocalFileUploadCache(File file) throws IOException {
+        if (file.exists()) {
+            try (var reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+                for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+                    parse(line);
+                }
+            }
+        }
+
+        output = new FileOutputStream(file, true);
+        writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
+    @Nullable
+    @Override
+    public synchronized FileId get(byte[] contentHash) {
+        return fileIds.get(Hex.toHexString(contentHash));
+    }
+
+    @Override
+    public synchronized void put(byte[] contentHash, FileId fileId) {
+        var hash = Hex.toHexString(contentHash);
+
+        fileIds.put(hash, fileId);
+
+        try {
+            writer.write(hash + " " + fileId + "\n");
+            writer.flush();
+            output.getFD().sync();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+
+    private void parse(String line) {
+        var parts = line.split(" ");
+
+        if (parts.length != 2) {
+            // torn by a crash while appending
+            return;
+        }
+
+        try {
+            fileIds.put(parts[0], FileId.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            // torn by a crash while appending
+        }
+    }
+}
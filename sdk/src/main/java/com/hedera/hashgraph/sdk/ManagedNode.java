@@ -14,6 +14,8 @@ abstract class ManagedNode {
     final ExecutorService executor;
     long lastUsed = 0;
     long useCount = 0;
+    long delay = 250;
+    long delayUntil = 0;
 
     ManagedNode(String address, ExecutorService executor) {
         this.executor = executor;
@@ -25,6 +27,30 @@ abstract class ManagedNode {
         lastUsed = Instant.now().toEpochMilli();
     }
 
+    synchronized boolean isHealthy() {
+        return delayUntil < Instant.now().toEpochMilli();
+    }
+
+    synchronized void increaseDelay() {
+        this.delay = Math.min(this.delay * 2, 8000);
+    }
+
+    /**
+     * Mark this node unhealthy until the current delay has passed, then double the delay.
+     */
+    synchronized void backOff() {
+        this.delayUntil = Instant.now().toEpochMilli() + this.delay;
+        increaseDelay();
+    }
+
+    synchronized void decreaseDelay() {
+        this.delay = Math.max(this.delay / 2, 250);
+    }
+
+    synchronized long delay() {
+        return delayUntil - Instant.now().toEpochMilli();
+    }
+
     synchronized ManagedChannel getChannel() {
         if (channel != null) {
             return channel;
@@ -1,5 +1,6 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.errorprone.annotations.Var;
 import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
@@ -53,10 +54,22 @@ class MirrorNetwork {
         Collections.shuffle(network, ThreadLocalSecureRandom.current());
     }
 
-    MirrorNode getNextMirrorNode() {
-        var node = network.get(index);
+    /**
+     * Pick the healthy mirror node with the best score; between equally good nodes, take turns.
+     */
+    synchronized MirrorNode getNextMirrorNode() {
+        @Var var best = network.get(index);
+
+        for (int i = 1; i < network.size(); i++) {
+            var node = network.get((index + i) % network.size());
+
+            if (node.compareTo(best) < 0) {
+                best = node;
+            }
+        }
+
         index = (index + 1) % network.size();
-        return node;
+        return best;
     }
 
     void close(Duration timeout) {
@@ -2,8 +2,86 @@ package com.hedera.hashgraph.sdk;
 
 import java.util.concurrent.ExecutorService;
 
+/**
+ * A mirror node and how well it has been serving subscriptions.
+ * <p>
+ * Besides the back-off shared with consensus nodes, a mirror node keeps moving averages of how long a
+ * subscription takes to receive its first response, how often subscriptions fail and how far behind
+ * consensus live messages arrive. Together with the number of subscriptions it is serving, these make up
+ * its score; new subscriptions go to the healthy mirror node with the lowest score.
+ */
 class MirrorNode extends ManagedNode {
+    // weight of the newest sample in the moving averages
+    private static final double SMOOTHING = 0.2;
+
+    private int activeSubscriptions = 0;
+
+    private double connectLatencySeconds = 0;
+
+    private double errorRate = 0;
+
+    private double lagSeconds = 0;
+
     MirrorNode(String address, ExecutorService executor) {
         super(address, executor);
     }
+
+    synchronized void subscriptionStarted() {
+        activeSubscriptions += 1;
+        inUse();
+    }
+
+    synchronized void subscriptionEnded() {
+        activeSubscriptions = Math.max(activeSubscriptions - 1, 0);
+    }
+
+    /**
+     * A subscription received its first response {@code latencyNanos} after it was started.
+     */
+    synchronized void recordConnected(long latencyNanos) {
+        connectLatencySeconds = average(connectLatencySeconds, latencyNanos / 1_000_000_000.0);
+        errorRate = average(errorRate, 0);
+        decreaseDelay();
+    }
+
+    /**
+     * A subscription failed because of this mirror node.
+     */
+    synchronized void recordError() {
+        errorRate = average(errorRate, 1);
+        backOff();
+    }
+
+    /**
+     * A live message arrived {@code lagNanos} after it reached consensus.
+     */
+    synchronized void recordLag(long lagNanos) {
+        lagSeconds = average(lagSeconds, Math.max(lagNanos, 0) / 1_000_000_000.0);
+    }
+
+    /**
+     * Lower is better; every active subscription, second of latency or lag and failure makes it worse.
+     */
+    synchronized double score() {
+        return (1 + activeSubscriptions) * (1 + 4 * errorRate) * (1 + connectLatencySeconds + lagSeconds);
+    }
+
+    int compareTo(MirrorNode node) {
+        var healthy = isHealthy();
+
+        if (healthy != node.isHealthy()) {
+            return healthy ? -1 : 1;
+        }
+
+        return Double.compare(score(), node.score());
+    }
+
+    private static double average(double average, double sample) {
+        return average + SMOOTHING * (sample - average);
+    }
+
+    @Override
+    public String toString() {
+        return address;
+    }
 }
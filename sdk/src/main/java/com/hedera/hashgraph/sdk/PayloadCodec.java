@@ -0,0 +1,36 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * Compresses the payload of a chunked transaction before it is split into chunks, so that large
+ * payloads take fewer chunks to submit.
+ * <p>
+ * An encoded payload starts with a short header naming the codec and the size of the payload, which
+ * lets {@link TopicMessageQuery#setPayloadCodecs(PayloadCodec...)} and
+ * {@link FileContentsQuery#setPayloadCodecs(PayloadCodec...)} decode it again.
+ *
+ * @see DeflatePayloadCodec
+ * @see ChunkedTransaction#setPayloadCodec(PayloadCodec)
+ */
+public interface PayloadCodec {
+    /**
+     * @return The identifier of the codec in the header of encoded payloads, between 1 and 255
+     */
+    int getId();
+
+    /**
+     * @param payload The payload to encode
+     * @return the encoded payload
+     */
+    byte[] encode(byte[] payload);
+
+    /**
+     * @param encoded The encoded payload, without its header
+     * @param decodedSize The size of the payload before it was encoded, as claimed by the header; it is
+     *     only an upper bound, so memory should grow with what is actually decoded rather than be
+     *     allocated up front
+     * @return the payload
+     * @throws IllegalArgumentException if {@code encoded} is not a payload encoded by this codec, or does
+     *     not decode to exactly {@code decodedSize} bytes
+     */
+    byte[] decode(byte[] encoded, int decodedSize);
+}
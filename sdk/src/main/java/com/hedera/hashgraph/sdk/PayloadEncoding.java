@@ -0,0 +1,109 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Adds and reads the header of payloads encoded by a {@link PayloadCodec}: the 3 bytes {@code HPC}, the
+ * identifier of the codec in 1 byte and the size of the payload before it was encoded in 4 bytes, big
+ * endian.
+ */
+final class PayloadEncoding {
+    private static final byte[] MAGIC = {'H', 'P', 'C'};
+
+    static final int HEADER_SIZE = MAGIC.length + 1 + 4;
+
+    // the largest file the network stores, and larger than a topic message of the default 20 chunks
+    static final int DEFAULT_MAX_DECODED_SIZE = 1024 * 1024;
+
+    private PayloadEncoding() {
+    }
+
+    /**
+     * @return the encoded payload with its header, or {@code payload} if encoding does not make it smaller
+     */
+    static ByteString encode(PayloadCodec codec, ByteString payload) {
+        var id = codec.getId();
+
+        if (id < 1 || id > 255) {
+            throw new IllegalArgumentException("payload codec ID must be between 1 and 255, was " + id);
+        }
+
+        var encoded = codec.encode(payload.toByteArray());
+
+        if (HEADER_SIZE + encoded.length >= payload.size()) {
+            return payload;
+        }
+
+        var buffer = ByteBuffer.allocate(HEADER_SIZE + encoded.length);
+        buffer.put(MAGIC);
+        buffer.put((byte) id);
+        buffer.putInt(payload.size());
+        buffer.put(encoded);
+
+        return ByteString.copyFrom(buffer.array());
+    }
+
+    /**
+     * @param maxDecodedSize The largest payload to decode; the size in the header is not trusted beyond it
+     * @return the decoded payload, or {@code contents} if they do not start with the header of one of
+     *     {@code codecs}, fail to decode or would decode to more than {@code maxDecodedSize} bytes
+     */
+    static ByteString decode(ByteString contents, List<PayloadCodec> codecs, int maxDecodedSize) {
+        if (codecs.isEmpty() || contents.size() < HEADER_SIZE) {
+            return contents;
+        }
+
+        for (var i = 0; i < MAGIC.length; i++) {
+            if (contents.byteAt(i) != MAGIC[i]) {
+                return contents;
+            }
+        }
+
+        var id = contents.byteAt(MAGIC.length) & 0xff;
+        var decodedSize = contents.substring(MAGIC.length + 1, HEADER_SIZE).asReadOnlyByteBuffer().getInt();
+
+        if (decodedSize < 0 || decodedSize > maxDecodedSize) {
+            return contents;
+        }
+
+        for (var codec : codecs) {
+            if (codec.getId() != id) {
+                continue;
+            }
+
+            try {
+                return ByteString.copyFrom(codec.decode(contents.substring(HEADER_SIZE).toByteArray(), decodedSize));
+            } catch (IllegalArgumentException e) {
+                // not an encoded payload after all
+                return contents;
+            }
+        }
+
+        return contents;
+    }
+
+    static TopicMessage decode(TopicMessage message, List<PayloadCodec> codecs, int maxDecodedSize) {
+        if (codecs.isEmpty()) {
+            return message;
+        }
+
+        var contents = ByteString.copyFrom(message.contents);
+        var decoded = decode(contents, codecs, maxDecodedSize);
+
+        if (decoded == contents) {
+            return message;
+        }
+
+        return new TopicMessage(
+            message.consensusTimestamp,
+            decoded.toByteArray(),
+            message.runningHash,
+            message.sequenceNumber,
+            message.chunks,
+            message.transactionId
+        );
+    }
+}
@@ -87,6 +87,14 @@ public abstract class Query<O, T extends Query<O, T>> extends Executable<T, com.
         return (T) this;
     }
 
+    /**
+     * Take over the payment set on another query, for a query that is executed on its behalf.
+     */
+    void copyPaymentFrom(Query<?, ?> query) {
+        queryPayment = query.queryPayment;
+        maxQueryPayment = query.maxQueryPayment;
+    }
+
     @Override
     @FunctionalExecutable(type = "Hbar")
     public CompletableFuture<Hbar> getCostAsync(Client client) {
@@ -0,0 +1,100 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks one at a time, in the order they were submitted, on an underlying (usually shared) executor.
+ * <p>
+ * No thread is held while the queue is empty, so any number of serial executors can share one pool. Once
+ * handed to the executor, a worker runs the queued tasks in a loop until the queue is empty, so an
+ * executor that runs tasks on the calling thread does not recurse once per task.
+ */
+final class SerialExecutor implements Executor {
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    private final Executor executor;
+
+    // whether a worker was handed to the executor and did not find the queue empty yet
+    private boolean scheduled = false;
+
+    @Nullable
+    private Runnable active;
+
+    SerialExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (this) {
+            tasks.add(task);
+
+            if (scheduled) {
+                return;
+            }
+
+            scheduled = true;
+        }
+
+        try {
+            executor.execute(this::drain);
+        } catch (RuntimeException e) {
+            // the task is rejected, and the next one hands a worker to the executor again
+            synchronized (this) {
+                scheduled = false;
+                tasks.removeLastOccurrence(task);
+            }
+
+            throw e;
+        }
+    }
+
+    synchronized int getQueuedCount() {
+        return tasks.size() + (active != null ? 1 : 0);
+    }
+
+    private void drain() {
+        while (true) {
+            Runnable task;
+
+            synchronized (this) {
+                task = tasks.poll();
+                active = task;
+
+                if (task == null) {
+                    scheduled = false;
+                    return;
+                }
+            }
+
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                // let the failure reach the executor, and leave the tasks after it to a new worker
+                boolean resume;
+
+                synchronized (this) {
+                    active = null;
+                    resume = !tasks.isEmpty();
+                    scheduled = resume;
+                }
+
+                if (resume) {
+                    try {
+                        executor.execute(this::drain);
+                    } catch (RuntimeException rejected) {
+                        synchronized (this) {
+                            scheduled = false;
+                        }
+
+                        e.addSuppressed(rejected);
+                    }
+                }
+
+                throw e;
+            }
+        }
+    }
+}
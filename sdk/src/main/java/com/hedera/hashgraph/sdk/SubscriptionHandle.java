@@ -1,10 +1,17 @@
 package com.hedera.hashgraph.sdk;
 
+import java8.util.function.LongConsumer;
+
 import javax.annotation.Nullable;
 
 public final class SubscriptionHandle {
     @Nullable
-    private Runnable onUnsubscribe;
+    private volatile Runnable onUnsubscribe;
+
+    @Nullable
+    private volatile LongConsumer onRequest;
+
+    private volatile boolean unsubscribed = false;
 
     SubscriptionHandle() {
     }
@@ -13,9 +20,41 @@ public final class SubscriptionHandle {
         this.onUnsubscribe = onUnsubscribe;
     }
 
+    void setOnRequest(LongConsumer onRequest) {
+        this.onRequest = onRequest;
+    }
+
+    boolean isUnsubscribed() {
+        return unsubscribed;
+    }
+
+    /**
+     * Request up to {@code n} more messages for a {@link TopicMessageSubscriber}.
+     * <p>
+     * Requests add up; pass {@link Long#MAX_VALUE} to receive messages as fast as they arrive. Has no effect on
+     * subscriptions made with a {@code Consumer}, which always receive messages as fast as they arrive.
+     *
+     * @param n The number of messages to request
+     */
+    public void request(long n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("number of messages requested must be positive");
+        }
+
+        var onRequest = this.onRequest;
+
+        if (onRequest != null) {
+            onRequest.accept(n);
+        }
+    }
+
     public void unsubscribe() {
-        if (this.onUnsubscribe != null) {
-            this.onUnsubscribe.run();
+        unsubscribed = true;
+
+        var onUnsubscribe = this.onUnsubscribe;
+
+        if (onUnsubscribe != null) {
+            onUnsubscribe.run();
         }
     }
 }
@@ -117,4 +117,21 @@ public final class SystemDeleteTransaction extends Transaction<SystemDeleteTrans
         bodyBuilder.setSystemDelete(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var fileId = getFileId();
+
+        if (fileId != null) {
+            cache.invalidate(fileId);
+        }
+
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+        }
+
+        return fileId != null || contractId != null;
+    }
 }
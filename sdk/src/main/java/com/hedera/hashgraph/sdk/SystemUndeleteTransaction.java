@@ -87,4 +87,21 @@ public final class SystemUndeleteTransaction extends Transaction<SystemUndeleteT
         bodyBuilder.setSystemUndelete(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var fileId = getFileId();
+
+        if (fileId != null) {
+            cache.invalidate(fileId);
+        }
+
+        var contractId = getContractId();
+
+        if (contractId != null) {
+            cache.invalidate(contractId);
+        }
+
+        return fileId != null || contractId != null;
+    }
 }
@@ -66,4 +66,11 @@ public class TokenAssociateTransaction extends Transaction<TokenAssociateTransac
         bodyBuilder.setTokenAssociate(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the token relationships of the account changed
+        cache.invalidate(getAccountId());
+        return true;
+    }
 }
@@ -54,4 +54,11 @@ public class TokenBurnTransaction extends com.hedera.hashgraph.sdk.Transaction<T
         bodyBuilder.setTokenBurn(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the total supply changed
+        cache.invalidate(getTokenId());
+        return true;
+    }
 }
@@ -44,4 +44,10 @@ public class TokenDeleteTransaction extends com.hedera.hashgraph.sdk.Transaction
         bodyBuilder.setTokenDeletion(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        cache.invalidate(getTokenId());
+        return true;
+    }
 }
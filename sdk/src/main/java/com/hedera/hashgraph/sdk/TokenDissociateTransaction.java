@@ -63,4 +63,11 @@ public class TokenDissociateTransaction extends com.hedera.hashgraph.sdk.Transac
         bodyBuilder.setTokenDissociate(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the token relationships of the account changed
+        cache.invalidate(getAccountId());
+        return true;
+    }
 }
@@ -53,4 +53,11 @@ public class TokenFreezeTransaction extends com.hedera.hashgraph.sdk.Transaction
         bodyBuilder.setTokenFreeze(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the token relationships of the account changed
+        cache.invalidate(getAccountId());
+        return true;
+    }
 }
@@ -54,4 +54,11 @@ public class TokenGrantKycTransaction extends com.hedera.hashgraph.sdk.Transacti
         bodyBuilder.setTokenGrantKyc(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the token relationships of the account changed
+        cache.invalidate(getAccountId());
+        return true;
+    }
 }
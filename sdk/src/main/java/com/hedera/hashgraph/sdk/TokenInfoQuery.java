@@ -60,4 +60,15 @@ public class TokenInfoQuery extends com.hedera.hashgraph.sdk.Query<TokenInfo, To
         // `Token_DELETED` back instead.
         return super.getCostAsync(client).thenApply((cost) -> Hbar.fromTinybars(Math.max(cost.toTinybars(), 25)));
     }
+
+    @Override
+    public CompletableFuture<TokenInfo> executeAsync(Client client) {
+        var cache = client.entityInfoCache;
+
+        if (cache == null) {
+            return super.executeAsync(client);
+        }
+
+        return cache.tokens.getOrLoadAsync(TokenId.fromProtobuf(builder.getToken()), () -> super.executeAsync(client));
+    }
 }
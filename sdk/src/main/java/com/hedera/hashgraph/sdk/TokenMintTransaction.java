@@ -54,4 +54,11 @@ public class TokenMintTransaction extends com.hedera.hashgraph.sdk.Transaction<T
         bodyBuilder.setTokenMint(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the total supply changed
+        cache.invalidate(getTokenId());
+        return true;
+    }
 }
@@ -53,4 +53,11 @@ public class TokenRevokeKycTransaction extends com.hedera.hashgraph.sdk.Transact
         bodyBuilder.setTokenRevokeKyc(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the token relationships of the account changed
+        cache.invalidate(getAccountId());
+        return true;
+    }
 }
@@ -53,4 +53,11 @@ public class TokenUnfreezeTransaction extends com.hedera.hashgraph.sdk.Transacti
         bodyBuilder.setTokenUnfreeze(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the token relationships of the account changed
+        cache.invalidate(getAccountId());
+        return true;
+    }
 }
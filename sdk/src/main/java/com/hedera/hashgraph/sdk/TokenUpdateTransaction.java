@@ -154,4 +154,10 @@ public class TokenUpdateTransaction extends Transaction<TokenUpdateTransaction>
         bodyBuilder.setTokenUpdate(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        cache.invalidate(getTokenId());
+        return true;
+    }
 }
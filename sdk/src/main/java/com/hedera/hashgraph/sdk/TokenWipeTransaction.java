@@ -63,5 +63,12 @@ public class TokenWipeTransaction extends com.hedera.hashgraph.sdk.Transaction<T
         bodyBuilder.setTokenWipe(builder);
         return true;
     }
-}
 
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // the total supply and the balance of the account changed
+        cache.invalidate(getTokenId());
+        cache.invalidate(getAccountId());
+        return true;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.Objects;
+
+/**
+ * The last message of a topic that a subscriber finished processing.
+ */
+public final class TopicCheckpoint {
+    public final long sequenceNumber;
+
+    public final Instant consensusTimestamp;
+
+    public TopicCheckpoint(long sequenceNumber, Instant consensusTimestamp) {
+        this.sequenceNumber = sequenceNumber;
+        this.consensusTimestamp = consensusTimestamp;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("sequenceNumber", sequenceNumber)
+            .add("consensusTimestamp", consensusTimestamp)
+            .toString();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sequenceNumber, consensusTimestamp);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof TopicCheckpoint)) {
+            return false;
+        }
+
+        var other = (TopicCheckpoint) o;
+        return sequenceNumber == other.sequenceNumber && consensusTimestamp.equals(other.consensusTimestamp);
+    }
+}
@@ -0,0 +1,27 @@
+package com.hedera.hashgraph.sdk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Records how far the subscriber of each topic got so that a subscription can resume where it left off.
+ *
+ * @see TopicMessageQuery#setCheckpointStore(TopicCheckpointStore)
+ * @see InMemoryTopicCheckpointStore
+ * @see FileTopicCheckpointStore
+ */
+public interface TopicCheckpointStore {
+    /**
+     * @param topicId The topic
+     * @return the last checkpoint saved for the topic, or {@code null} if there is none
+     */
+    @Nullable
+    TopicCheckpoint load(TopicId topicId);
+
+    /**
+     * Record that every message of the topic up to and including {@code checkpoint} has been processed.
+     *
+     * @param topicId The topic
+     * @param checkpoint The last message processed
+     */
+    void save(TopicId topicId, TopicCheckpoint checkpoint);
+}
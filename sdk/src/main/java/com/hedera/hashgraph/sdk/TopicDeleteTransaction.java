@@ -59,4 +59,16 @@ public final class TopicDeleteTransaction extends Transaction<TopicDeleteTransac
         bodyBuilder.setConsensusDeleteTopic(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var topicId = getTopicId();
+
+        if (topicId != null) {
+            cache.invalidate(topicId);
+            return true;
+        }
+
+        return false;
+    }
 }
@@ -6,6 +6,7 @@ import com.hedera.hashgraph.sdk.proto.Response;
 import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
 import io.grpc.MethodDescriptor;
+import java8.util.concurrent.CompletableFuture;
 
 /**
  * Retrieve the latest state of a topic.
@@ -59,4 +60,15 @@ public final class TopicInfoQuery extends Query<TopicInfo, TopicInfoQuery> {
     MethodDescriptor<com.hedera.hashgraph.sdk.proto.Query, Response> getMethodDescriptor() {
         return ConsensusServiceGrpc.getGetTopicInfoMethod();
     }
+
+    @Override
+    public CompletableFuture<TopicInfo> executeAsync(Client client) {
+        var cache = client.entityInfoCache;
+
+        if (cache == null) {
+            return super.executeAsync(client);
+        }
+
+        return cache.topics.getOrLoadAsync(getTopicId(), () -> super.executeAsync(client));
+    }
 }
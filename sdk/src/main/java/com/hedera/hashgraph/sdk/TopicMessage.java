@@ -9,6 +9,7 @@ import org.threeten.bp.Instant;
 import javax.annotation.Nullable;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 
 public final class TopicMessage {
@@ -26,6 +27,13 @@ public final class TopicMessage {
     @Nullable
     public final TransactionId transactionId;
 
+    // immutable copies of the public arrays, which callers may modify; taken from the responses when possible
+    @Nullable
+    private ByteString contentsView;
+
+    @Nullable
+    private ByteString runningHashView;
+
     TopicMessage(
         Instant lastConsensusTimestamp,
         byte[] message,
@@ -42,25 +50,63 @@ public final class TopicMessage {
         this.transactionId = transactionId;
     }
 
+    private TopicMessage(
+        Instant lastConsensusTimestamp,
+        ByteString message,
+        ByteString lastRunningHash,
+        long lastSequenceNumber,
+        TopicMessageChunk[] chunks,
+        @Nullable TransactionId transactionId,
+        byte[] contents
+    ) {
+        this(lastConsensusTimestamp, contents, lastRunningHash.toByteArray(), lastSequenceNumber, chunks, transactionId);
+
+        this.contentsView = message;
+        this.runningHashView = lastRunningHash;
+    }
+
     static TopicMessage ofSingle(ConsensusTopicResponse response) {
         return new TopicMessage(
             InstantConverter.fromProtobuf(response.getConsensusTimestamp()),
-            response.getMessage().toByteArray(),
-            response.getRunningHash().toByteArray(),
+            response.getMessage(),
+            response.getRunningHash(),
             response.getSequenceNumber(),
             new TopicMessageChunk[]{new TopicMessageChunk(response)},
             response.hasChunkInfo() && response.getChunkInfo().hasInitialTransactionID() ?
                 TransactionId.fromProtobuf(response.getChunkInfo().getInitialTransactionID()) :
-                null
+                null,
+            response.getMessage().toByteArray()
         );
     }
 
     static TopicMessage ofMany(List<ConsensusTopicResponse> responses) {
         // response should be in the order of oldest to newest (not chunk order)
-        @Var var chunks = new TopicMessageChunk[responses.size()];
+        var chunks = new TopicMessageChunk[responses.size()];
         @Var TransactionId transactionId = null;
-        var contents = new ByteString[responses.size()];
-        @Var long totalSize = 0;
+        @Var int totalSize = 0;
+
+        for (ConsensusTopicResponse r : responses) {
+            totalSize += r.getMessage().size();
+        }
+
+        // chunks are copied straight into their place in the whole message
+        var wholeMessage = new byte[totalSize];
+        var offsets = new int[responses.size()];
+
+        // the chunks in chunk order, joined into an immutable view of the message without copying them
+        var parts = new ByteString[responses.size()];
+
+        for (ConsensusTopicResponse r : responses) {
+            int index = r.getChunkInfo().getNumber() - 1;
+
+            if (index + 1 < offsets.length) {
+                offsets[index + 1] = r.getMessage().size();
+            }
+        }
+
+        for (var i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
 
         for (ConsensusTopicResponse r : responses) {
             if (transactionId == null && r.getChunkInfo().hasInitialTransactionID()) {
@@ -70,28 +116,67 @@ public final class TopicMessage {
             int index = r.getChunkInfo().getNumber() - 1;
 
             chunks[index] = new TopicMessageChunk(r);
-            contents[index] = r.getMessage();
-            totalSize += r.getMessage().size();
-        }
-
-        var wholeMessage = ByteBuffer.allocate((int) totalSize);
-
-        for (var content : contents) {
-            wholeMessage.put(content.asReadOnlyByteBuffer());
+            parts[index] = r.getMessage();
+            r.getMessage().copyTo(wholeMessage, offsets[index]);
         }
 
         var lastReceived = responses.get(responses.size() - 1);
 
         return new TopicMessage(
             InstantConverter.fromProtobuf(lastReceived.getConsensusTimestamp()),
-            wholeMessage.array(),
-            lastReceived.getRunningHash().toByteArray(),
+            ByteString.copyFrom(Arrays.asList(parts)),
+            lastReceived.getRunningHash(),
             lastReceived.getSequenceNumber(),
             chunks,
-            transactionId
+            transactionId,
+            wholeMessage
         );
     }
 
+    /**
+     * An immutable copy of {@link #contents}; unlike the field, it can be forwarded or hashed without copying
+     * again and does not change if the field is modified.
+     * <p>
+     * For a message received from a mirror node this shares the bytes of the response instead of copying them.
+     *
+     * @return the contents of the message
+     */
+    public ByteString getContents() {
+        @Var var view = contentsView;
+
+        if (view == null) {
+            view = ByteString.copyFrom(contents);
+            contentsView = view;
+        }
+
+        return view;
+    }
+
+    /**
+     * A read-only buffer over {@link #getContents()}, positioned at the start of the message.
+     *
+     * @return the contents of the message
+     */
+    public ByteBuffer getContentsBuffer() {
+        return getContents().asReadOnlyByteBuffer();
+    }
+
+    /**
+     * An immutable copy of {@link #runningHash}.
+     *
+     * @return the running hash of the topic after this message
+     */
+    public ByteString getRunningHash() {
+        @Var var view = runningHashView;
+
+        if (view == null) {
+            view = ByteString.copyFrom(runningHash);
+            runningHashView = view;
+        }
+
+        return view;
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
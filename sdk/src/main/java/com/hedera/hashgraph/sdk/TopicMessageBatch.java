@@ -0,0 +1,145 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import java8.util.function.Consumer;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Packs several small messages into a single topic message, and unpacks them again.
+ * <p>
+ * A packed message starts with the 4 bytes {@code HCSB}, followed by each message as its length in
+ * 4 bytes, big endian, and its bytes. A topic message that does not follow this framing exactly, up to
+ * its last byte, is not a packed message.
+ *
+ * @see TopicPublisher#setMaxBatchBytes(int)
+ */
+public final class TopicMessageBatch {
+    private static final byte[] MAGIC = {'H', 'C', 'S', 'B'};
+
+    static final int HEADER_SIZE = MAGIC.length;
+
+    static final int FRAME_OVERHEAD = 4;
+
+    private TopicMessageBatch() {
+    }
+
+    static ByteString pack(List<ByteString> messages) {
+        @Var var size = HEADER_SIZE;
+
+        for (var message : messages) {
+            size += FRAME_OVERHEAD + message.size();
+        }
+
+        var buffer = ByteBuffer.allocate(size);
+        buffer.put(MAGIC);
+
+        for (var message : messages) {
+            buffer.putInt(message.size());
+            message.copyTo(buffer);
+        }
+
+        buffer.flip();
+
+        return ByteString.copyFrom(buffer);
+    }
+
+    /**
+     * Whether {@code message} starts like a packed message, so that it could be mistaken for one if it
+     * was submitted as it is.
+     */
+    static boolean startsLikePacked(ByteString message) {
+        if (message.size() < HEADER_SIZE) {
+            return false;
+        }
+
+        for (var i = 0; i < HEADER_SIZE; i++) {
+            if (message.byteAt(i) != MAGIC[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param contents The contents of a topic message
+     * @return the messages packed into the contents, or {@code null} if they are not a packed message
+     */
+    @Nullable
+    public static List<ByteString> unpack(byte[] contents) {
+        if (contents.length < HEADER_SIZE) {
+            return null;
+        }
+
+        for (var i = 0; i < HEADER_SIZE; i++) {
+            if (contents[i] != MAGIC[i]) {
+                return null;
+            }
+        }
+
+        var buffer = ByteBuffer.wrap(contents, HEADER_SIZE, contents.length - HEADER_SIZE);
+        var messages = new ArrayList<ByteString>();
+
+        while (buffer.hasRemaining()) {
+            if (buffer.remaining() < FRAME_OVERHEAD) {
+                return null;
+            }
+
+            var length = buffer.getInt();
+
+            if (length < 0 || length > buffer.remaining()) {
+                return null;
+            }
+
+            messages.add(ByteString.copyFrom(contents, buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+
+        return messages;
+    }
+
+    /**
+     * Wrap a message handler so that it is called once for each message packed into a topic message.
+     * The unpacked messages share the consensus timestamp, running hash and sequence number of the
+     * topic message they were packed into. Topic messages that were not packed are passed on as they are.
+     *
+     * @param onNext The handler of each message
+     * @return a handler of topic messages to subscribe with
+     */
+    public static Consumer<TopicMessage> unpacking(Consumer<TopicMessage> onNext) {
+        return message -> {
+            for (var unpacked : unpack(message)) {
+                onNext.accept(unpacked);
+            }
+        };
+    }
+
+    static List<TopicMessage> unpack(TopicMessage message) {
+        var messages = unpack(message.contents);
+
+        if (messages == null) {
+            return Collections.singletonList(message);
+        }
+
+        var unpacked = new ArrayList<TopicMessage>(messages.size());
+
+        for (var contents : messages) {
+            unpacked.add(new TopicMessage(
+                message.consensusTimestamp,
+                contents.toByteArray(),
+                message.runningHash,
+                message.sequenceNumber,
+                message.chunks,
+                message.transactionId
+            ));
+        }
+
+        return unpacked;
+    }
+}
@@ -0,0 +1,112 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.BiConsumer;
+import java8.util.function.Consumer;
+import org.threeten.bp.Duration;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects topic messages into batches of up to {@code maxBatchSize} messages. A batch is handed out as soon
+ * as it is full or once {@code maxLinger} has passed since its first message, whichever comes first.
+ * <p>
+ * Batches are handed out while holding the lock of the batcher so they are never reordered or overlap,
+ * whether they are handed out by the stream or by the linger timer. Once the subscription was unsubscribed,
+ * the linger timer hands nothing out.
+ */
+final class TopicMessageBatcher implements Consumer<TopicMessage> {
+    private final int maxBatchSize;
+
+    private final long maxLingerMillis;
+
+    private final Executor executor;
+
+    private final Consumer<List<TopicMessage>> onBatch;
+
+    private final SubscriptionHandle subscriptionHandle;
+
+    @Nullable
+    private final BiConsumer<Throwable, TopicMessage> errorHandler;
+
+    private ArrayList<TopicMessage> batch = new ArrayList<>();
+
+    // identifies the current batch so that a linger timer of a batch already handed out does nothing
+    private long generation = 0;
+
+    TopicMessageBatcher(
+        int maxBatchSize,
+        Duration maxLinger,
+        Executor executor,
+        Consumer<List<TopicMessage>> onBatch,
+        SubscriptionHandle subscriptionHandle,
+        @Nullable BiConsumer<Throwable, TopicMessage> errorHandler
+    ) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerMillis = maxLinger.toMillis();
+        this.executor = executor;
+        this.onBatch = onBatch;
+        this.subscriptionHandle = subscriptionHandle;
+        this.errorHandler = errorHandler;
+    }
+
+    @Override
+    public synchronized void accept(TopicMessage message) {
+        if (batch.isEmpty() && maxBatchSize > 1) {
+            var lingering = generation;
+
+            CompletableFuture.runAsync(
+                () -> flushLingering(lingering),
+                CompletableFuture.delayedExecutor(maxLingerMillis, TimeUnit.MILLISECONDS, executor));
+        }
+
+        batch.add(message);
+
+        if (batch.size() >= maxBatchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Hand out the current batch, if it has any messages.
+     */
+    synchronized void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        var full = batch;
+
+        batch = new ArrayList<>(Math.min(maxBatchSize, 1024));
+        generation += 1;
+
+        onBatch.accept(full);
+    }
+
+    /**
+     * Hand out what was collected, for the end of the stream or the linger timer, reporting an error of
+     * {@code onBatch} to the error handler instead of throwing it at the caller.
+     */
+    synchronized void complete() {
+        try {
+            flush();
+        } catch (Throwable error) {
+            if (errorHandler != null) {
+                errorHandler.accept(error, null);
+            }
+        }
+    }
+
+    private synchronized void flushLingering(long lingering) {
+        if (lingering != generation || subscriptionHandle.isUnsubscribed()) {
+            // handed out already, or nobody wants it any more
+            return;
+        }
+
+        complete();
+    }
+}
@@ -1,18 +1,20 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
 import org.threeten.bp.Instant;
 
 final class TopicMessageChunk {
     public final Instant consensusTimestamp;
     public final long contentSize;
-    public final byte[] runningHash;
+    // shared with the response; a ByteString is immutable so there is no need to copy it
+    public final ByteString runningHash;
     public final long sequenceNumber;
 
     TopicMessageChunk(ConsensusTopicResponse response) {
         consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
         contentSize = response.getMessage().size();
-        runningHash = response.getRunningHash().toByteArray();
+        runningHash = response.getRunningHash();
         sequenceNumber = response.getSequenceNumber();
     }
 }
@@ -0,0 +1,112 @@
+package com.hedera.hashgraph.sdk;
+
+import io.grpc.stub.ClientCallStreamObserver;
+
+import javax.annotation.Nullable;
+
+/**
+ * Maps the messages requested by a {@link TopicMessageSubscriber} onto gRPC inbound flow control.
+ * <p>
+ * Every response requested from the mirror node either becomes a message for the subscriber or, when it is
+ * a chunk of a message that is not yet complete or a duplicate, is immediately replaced by another request.
+ * The responses outstanding on the streaming call therefore always equal the messages outstanding for the
+ * subscriber, and nothing is buffered beyond what was asked for.
+ * <p>
+ * A streaming call is only started, or restarted after a reconnect, while messages are outstanding since
+ * gRPC always requests the first response of a call itself.
+ */
+final class TopicMessageDemand {
+    // messages requested by the subscriber but not yet delivered; Long.MAX_VALUE is unbounded
+    private long outstanding = 0;
+
+    @Nullable
+    private ClientCallStreamObserver<?> starting;
+
+    @Nullable
+    private ClientCallStreamObserver<?> stream;
+
+    // a streaming call waiting on the subscriber to request messages
+    @Nullable
+    private Runnable deferred;
+
+    void request(long n) {
+        @Nullable Runnable start;
+
+        synchronized (this) {
+            outstanding = outstanding + n < 0 ? Long.MAX_VALUE : outstanding + n;
+
+            if (stream != null) {
+                stream.request(toInt(n));
+            }
+
+            start = deferred;
+            deferred = null;
+        }
+
+        // start the call outside the lock; it calls back into [beforeStart] and [started]
+        if (start != null) {
+            start.run();
+        }
+    }
+
+    /**
+     * Defer {@code start} until a message is requested.
+     *
+     * @return {@code true} if the call was deferred, {@code false} if it should start now
+     */
+    synchronized boolean deferIfIdle(Runnable start) {
+        if (outstanding > 0) {
+            return false;
+        }
+
+        deferred = start;
+        return true;
+    }
+
+    synchronized void beforeStart(ClientCallStreamObserver<?> requestStream) {
+        requestStream.disableAutoInboundFlowControl();
+        starting = requestStream;
+    }
+
+    synchronized void started() {
+        var requestStream = starting;
+        starting = null;
+
+        if (requestStream == null) {
+            return;
+        }
+
+        stream = requestStream;
+
+        // gRPC already requested the first response when it started the call
+        if (outstanding > 1) {
+            requestStream.request(toInt(outstanding - 1));
+        }
+    }
+
+    /**
+     * Called when a response became a message for the subscriber.
+     */
+    synchronized void delivered() {
+        if (outstanding != Long.MAX_VALUE && outstanding > 0) {
+            outstanding -= 1;
+        }
+    }
+
+    /**
+     * Called when a response was consumed without producing a message.
+     */
+    synchronized void replenish() {
+        if (stream != null) {
+            stream.request(1);
+        }
+    }
+
+    synchronized long getOutstanding() {
+        return outstanding;
+    }
+
+    private static int toInt(long n) {
+        return (int) Math.min(n, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,36 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.common.base.MoreObjects;
+
+/**
+ * A range of messages of a topic that no mirror node returned; see
+ * {@link TopicMessageQuery#setGapHandler(java8.util.function.Consumer)}.
+ */
+public final class TopicMessageGap {
+    public final TopicId topicId;
+
+    /**
+     * The sequence number of the first message missing.
+     */
+    public final long fromSequenceNumber;
+
+    /**
+     * The sequence number of the last message missing.
+     */
+    public final long toSequenceNumber;
+
+    TopicMessageGap(TopicId topicId, long fromSequenceNumber, long toSequenceNumber) {
+        this.topicId = topicId;
+        this.fromSequenceNumber = fromSequenceNumber;
+        this.toSequenceNumber = toSequenceNumber;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("topicId", topicId)
+            .add("fromSequenceNumber", fromSequenceNumber)
+            .add("toSequenceNumber", toSequenceNumber)
+            .toString();
+    }
+}
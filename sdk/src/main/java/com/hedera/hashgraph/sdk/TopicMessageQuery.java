@@ -1,6 +1,6 @@
 package com.hedera.hashgraph.sdk;
 
-import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.google.errorprone.annotations.Var;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusServiceGrpc;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
 import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
@@ -8,27 +8,72 @@ import io.grpc.CallOptions;
 import io.grpc.ClientCall;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ClientCallStreamObserver;
 import io.grpc.stub.ClientCalls;
-import io.grpc.stub.StreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import java8.util.function.BiConsumer;
 import java8.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Objects;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 public final class TopicMessageQuery {
+    private static final Logger logger = LoggerFactory.getLogger(TopicMessageQuery.class);
+
+    private static final int MAX_ATTEMPTS = 10;
+
+    // times the subscription reconnects to fetch missing messages, or a message whose running hash does not
+    // match, again
+    private static final int MAX_GAP_RETRIES = 3;
+
+    private static final int DEFAULT_MAX_PENDING_MESSAGES = 1000;
+
+    private static final long DEFAULT_MAX_PENDING_BYTES = 16 * 1024 * 1024;
+
+    // every chunk must reach consensus within the maximum transaction valid duration (3 minutes)
+    private static final Duration DEFAULT_PENDING_MESSAGE_TIMEOUT = Duration.ofMinutes(5);
+
     private final ConsensusTopicQuery.Builder builder;
 
     @Nullable
     private BiConsumer<Throwable, TopicMessage> errorHandler;
 
+    @Nullable
+    private Consumer<TransactionId> incompleteMessageHandler;
+
+    @Nullable
+    private TopicCheckpointStore checkpointStore;
+
+    private boolean verifyMessages = false;
+
+    @Nullable
+    private Consumer<TopicMessageGap> gapHandler;
+
+    private int maxPendingMessages = DEFAULT_MAX_PENDING_MESSAGES;
+
+    private long maxPendingBytes = DEFAULT_MAX_PENDING_BYTES;
+
+    private Duration pendingMessageTimeout = DEFAULT_PENDING_MESSAGE_TIMEOUT;
+
+    private List<PayloadCodec> payloadCodecs = Collections.emptyList();
+
+    private int maxDecodedPayloadSize = PayloadEncoding.DEFAULT_MAX_DECODED_SIZE;
+
     public TopicMessageQuery() {
         builder = ConsensusTopicQuery.newBuilder();
     }
 
+    public TopicId getTopicId() {
+        return TopicId.fromProtobuf(builder.getTopicID());
+    }
+
     public TopicMessageQuery setTopicId(TopicId topicId) {
         builder.setTopicID(topicId.toProtobuf());
         return this;
@@ -54,6 +99,149 @@ public final class TopicMessageQuery {
         return this;
     }
 
+    /**
+     * Set the handler called with the initial transaction ID of a chunked message that was dropped
+     * before all of its chunks were received.
+     *
+     * @param incompleteMessageHandler The handler
+     * @return {@code this}
+     */
+    public TopicMessageQuery setIncompleteMessageHandler(Consumer<TransactionId> incompleteMessageHandler) {
+        this.incompleteMessageHandler = incompleteMessageHandler;
+        return this;
+    }
+
+    /**
+     * Set the store that records the last message processed for the topic.
+     * <p>
+     * A subscription starts right after the checkpoint saved for the topic, if there is one, instead of
+     * at the start time of this query. A message is checkpointed once the consumer (or
+     * {@link TopicMessageSubscriber#onNext(TopicMessage)}) returns without throwing.
+     * <p>
+     * The checkpoint never moves past the first chunk of a message that is still being reassembled, so that
+     * message is received whole after resuming. Messages completed in the meantime may be received again.
+     *
+     * @param checkpointStore The store to resume from and save progress to
+     * @return {@code this}
+     */
+    public TopicMessageQuery setCheckpointStore(TopicCheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * Set whether the continuity of the topic is verified.
+     * <p>
+     * When enabled, sequence numbers must increase by exactly one and running hashes must follow from each
+     * other. When messages are missing, or a running hash does not follow from the previous one, the
+     * subscription reconnects and resumes right after the last message that was verified. The reconnect goes
+     * to the best mirror node, which is another one if the client has several, as the node that sent the
+     * response is marked as failing; with a single mirror node it is the same node again.
+     * <p>
+     * If the messages are still missing after a few reconnects, the gap handler is called and the subscription
+     * carries on. A message whose running hash still does not match is never delivered or checkpointed; it
+     * is reported to the error handler and the subscription carries on after it.
+     *
+     * @param verifyMessages Whether to verify messages
+     * @return {@code this}
+     */
+    public TopicMessageQuery setVerifyMessages(boolean verifyMessages) {
+        this.verifyMessages = verifyMessages;
+        return this;
+    }
+
+    /**
+     * Decode messages that were encoded by one of the given codecs before they are passed to the
+     * subscriber. Messages that were not encoded, or were encoded by another codec, are passed on as
+     * they are.
+     *
+     * @param payloadCodecs The codecs messages may have been encoded with
+     * @return {@code this}
+     * @see ChunkedTransaction#setPayloadCodec(PayloadCodec)
+     */
+    public TopicMessageQuery setPayloadCodecs(PayloadCodec... payloadCodecs) {
+        this.payloadCodecs = Arrays.asList(payloadCodecs);
+        return this;
+    }
+
+    /**
+     * Set the largest size a message is decoded to. A message whose header claims a larger size is passed
+     * on as it is. Defaults to 1 MiB.
+     *
+     * @param maxDecodedPayloadSize The largest decoded message, in bytes
+     * @return {@code this}
+     * @see #setPayloadCodecs(PayloadCodec...)
+     */
+    public TopicMessageQuery setMaxDecodedPayloadSize(int maxDecodedPayloadSize) {
+        if (maxDecodedPayloadSize < 0) {
+            throw new IllegalArgumentException("maxDecodedPayloadSize must be non-negative");
+        }
+
+        this.maxDecodedPayloadSize = maxDecodedPayloadSize;
+        return this;
+    }
+
+    /**
+     * Set the handler called when messages of the topic are missing and could not be fetched from any
+     * mirror node. Only used when messages are verified.
+     *
+     * @param gapHandler The handler
+     * @return {@code this}
+     * @see #setVerifyMessages(boolean)
+     */
+    public TopicMessageQuery setGapHandler(Consumer<TopicMessageGap> gapHandler) {
+        this.gapHandler = gapHandler;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of chunked messages waiting for more chunks. When exceeded, the oldest
+     * partial message is dropped. Defaults to 1000.
+     *
+     * @param maxPendingMessages The maximum number of partial messages
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingMessages(int maxPendingMessages) {
+        if (maxPendingMessages < 0) {
+            throw new IllegalArgumentException("maxPendingMessages must be non-negative");
+        }
+
+        this.maxPendingMessages = maxPendingMessages;
+        return this;
+    }
+
+    /**
+     * Set the maximum total size of the chunks held for partial messages. When exceeded, the oldest
+     * partial messages are dropped. Defaults to 16 MiB.
+     *
+     * @param maxPendingBytes The maximum number of bytes held
+     * @return {@code this}
+     */
+    public TopicMessageQuery setMaxPendingBytes(long maxPendingBytes) {
+        if (maxPendingBytes < 0) {
+            throw new IllegalArgumentException("maxPendingBytes must be non-negative");
+        }
+
+        this.maxPendingBytes = maxPendingBytes;
+        return this;
+    }
+
+    /**
+     * Set how long, in consensus time, a partial message waits for its remaining chunks before it is
+     * dropped. Defaults to 5 minutes.
+     *
+     * @param pendingMessageTimeout The timeout
+     * @return {@code this}
+     */
+    public TopicMessageQuery setPendingMessageTimeout(Duration pendingMessageTimeout) {
+        if (pendingMessageTimeout.isNegative()) {
+            throw new IllegalArgumentException("pendingMessageTimeout must be non-negative");
+        }
+
+        this.pendingMessageTimeout = pendingMessageTimeout;
+        return this;
+    }
+
     // TODO: Refactor into a base class when we add more mirror query types
     public SubscriptionHandle subscribe(
         Client client,
@@ -61,83 +249,408 @@ public final class TopicMessageQuery {
     ) {
         SubscriptionHandle subscriptionHandle = new SubscriptionHandle();
 
-        makeStreamingCall(client, subscriptionHandle, errorHandler, builder.build(), onNext, 0, new Instant[]{null});
+        makeStreamingCall(client, subscriptionHandle, errorHandler, builder.build(), onNext, createSubscriptionState());
+
+        return subscriptionHandle;
+    }
+
+    /**
+     * Subscribe and receive messages in batches rather than one at a time.
+     * <p>
+     * Messages are collected as they arrive and handed to {@code onBatch} once {@code maxBatchSize} messages
+     * were collected or {@code maxLinger} has passed since the first message of the batch, whichever comes
+     * first. Batches are handed out in order and never overlap. Whatever was collected is handed out when the
+     * end time or limit of the query is reached.
+     *
+     * @param client The client with the mirror network to subscribe to
+     * @param maxBatchSize The maximum number of messages in a batch
+     * @param maxLinger The longest a message waits for its batch to fill up
+     * @param onBatch The handler for each batch of messages
+     * @return the handle of the subscription
+     */
+    public SubscriptionHandle subscribeBatched(
+        Client client,
+        int maxBatchSize,
+        Duration maxLinger,
+        Consumer<List<TopicMessage>> onBatch
+    ) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+
+        if (maxLinger.isNegative()) {
+            throw new IllegalArgumentException("maxLinger must be non-negative");
+        }
+
+        var subscriptionHandle = new SubscriptionHandle();
+        var state = createSubscriptionState();
+
+        // the checkpoints of the messages collected, in the same order; only used while holding the lock of the batcher
+        var checkpoints = new ArrayDeque<Runnable>();
+
+        // checkpoint once a whole batch was handled rather than as each message is collected
+        var batcher = new TopicMessageBatcher(maxBatchSize, maxLinger, client.executor, batch -> {
+            @Var Runnable checkpoint = null;
+
+            for (var i = 0; i < batch.size(); i++) {
+                checkpoint = checkpoints.poll();
+            }
+
+            onBatch.accept(batch);
+
+            if (checkpoint != null) {
+                checkpoint.run();
+            }
+        }, subscriptionHandle, errorHandler);
+
+        state.onComplete = batcher::complete;
+        state.onNextDeferred = (message, checkpoint) -> {
+            synchronized (batcher) {
+                checkpoints.add(checkpoint);
+                batcher.accept(message);
+            }
+        };
+
+        makeStreamingCall(client, subscriptionHandle, errorHandler, builder.build(), batcher, state);
+
+        return subscriptionHandle;
+    }
+
+    /**
+     * Subscribe with flow control; messages are only received as fast as {@code subscriber} requests them
+     * with {@link SubscriptionHandle#request(long)}.
+     * <p>
+     * The error handler of this query is not used; errors are delivered to
+     * {@link TopicMessageSubscriber#onError(Throwable)}, after which the subscription is cancelled.
+     *
+     * @param client The client with the mirror network to subscribe to
+     * @param subscriber The subscriber receiving the messages
+     * @return the handle of the subscription, also given to {@link TopicMessageSubscriber#onSubscribe(SubscriptionHandle)}
+     */
+    public SubscriptionHandle subscribe(
+        Client client,
+        TopicMessageSubscriber subscriber
+    ) {
+        return subscribe(client, subscriber, null);
+    }
+
+    /**
+     * Subscribe with flow control like {@link #subscribe(Client, TopicMessageSubscriber)}, but hand each message
+     * to {@code onNextDeferred} together with the task saving its checkpoint instead of to the subscriber, for a
+     * subscriber that only queues messages and handles them later.
+     */
+    SubscriptionHandle subscribe(
+        Client client,
+        TopicMessageSubscriber subscriber,
+        @Nullable BiConsumer<TopicMessage, Runnable> onNextDeferred
+    ) {
+        var subscriptionHandle = new SubscriptionHandle();
+        var demand = new TopicMessageDemand();
+        var state = createSubscriptionState();
+
+        state.demand = demand;
+        state.onComplete = subscriber::onComplete;
+        state.onNextDeferred = onNextDeferred;
+
+        subscriptionHandle.setOnRequest(demand::request);
+
+        BiConsumer<Throwable, TopicMessage> onError = (error, message) -> {
+            subscriptionHandle.unsubscribe();
+            subscriber.onError(error);
+        };
+
+        subscriber.onSubscribe(subscriptionHandle);
+
+        makeStreamingCall(client, subscriptionHandle, onError, builder.build(), subscriber::onNext, state);
 
         return subscriptionHandle;
     }
 
+    /**
+     * Subscribe to the responses of the mirror node as they are, without reassembling chunked messages, with
+     * the same reconnects and verification as {@link #subscribe(Client, Consumer)}.
+     */
+    SubscriptionHandle subscribeResponses(
+        Client client,
+        Consumer<ConsensusTopicResponse> onResponse,
+        Runnable onComplete,
+        BiConsumer<Throwable, TopicMessage> onError
+    ) {
+        var subscriptionHandle = new SubscriptionHandle();
+        var state = createSubscriptionState();
+
+        state.onResponse = onResponse;
+        state.onComplete = onComplete;
+
+        makeStreamingCall(client, subscriptionHandle, onError, builder.build(), message -> {
+        }, state);
+
+        return subscriptionHandle;
+    }
+
+    private SubscriptionState createSubscriptionState() {
+        var state = new SubscriptionState(new TopicMessageReassembler(
+            maxPendingMessages,
+            maxPendingBytes,
+            pendingMessageTimeout,
+            incompleteMessageHandler
+        ));
+
+        var topicId = getTopicId();
+        var store = checkpointStore;
+        var checkpoint = store != null ? store.load(topicId) : null;
+
+        state.topicId = topicId;
+        state.checkpointStore = store;
+        state.gapHandler = gapHandler;
+        state.payloadCodecs = payloadCodecs;
+        state.maxDecodedPayloadSize = maxDecodedPayloadSize;
+
+        var verifier = verifyMessages ? new TopicRunningHashVerifier(topicId) : null;
+        state.verifier = verifier;
+
+        if (checkpoint != null) {
+            state.lastSequenceNumber = checkpoint.sequenceNumber;
+            state.lastConsensusTimestamp = checkpoint.consensusTimestamp;
+
+            if (verifier != null) {
+                verifier.anchor(checkpoint.sequenceNumber);
+            }
+        }
+
+        return state;
+    }
+
     private static void makeStreamingCall(
         Client client,
         SubscriptionHandle subscriptionHandle,
         @Nullable BiConsumer<Throwable, TopicMessage> errorHandler,
         ConsensusTopicQuery query,
         Consumer<TopicMessage> onNext,
-        int attempt,
-        // startTime must be `final` or `effectively final` to be used within closures.
-        Instant[] startTime
+        SubscriptionState state
     ) {
-        if (attempt > 10) {
+        if (subscriptionHandle.isUnsubscribed()) {
+            return;
+        }
+
+        if (state.attempt > MAX_ATTEMPTS) {
             if (errorHandler != null) {
                 errorHandler.accept(new Error("Failed to connect to mirror node"), null);
-                return;
             }
+
+            return;
         }
 
+        var demand = state.demand;
+
+        if (demand != null && demand.deferIfIdle(() -> makeStreamingCall(client, subscriptionHandle, errorHandler, query, onNext, state))) {
+            // nothing requested yet; start the call once something is
+            return;
+        }
+
+        var mirrorNode = client.mirrorNetwork.getNextMirrorNode();
+        var startedAt = Instant.now();
+        var startedAtNanos = System.nanoTime();
+
         ClientCall<ConsensusTopicQuery, ConsensusTopicResponse> call =
-            client.mirrorNetwork.getNextMirrorNode().getChannel().newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+            mirrorNode.getChannel().newCall(ConsensusServiceGrpc.getSubscribeTopicMethod(), CallOptions.DEFAULT);
+
+        mirrorNode.subscriptionStarted();
 
         subscriptionHandle.setOnUnsubscribe(() -> {
             call.cancel("unsubscribe", null);
         });
 
-        HashMap<TransactionID, ArrayList<ConsensusTopicResponse>> pendingMessages = new HashMap<>();
-        ClientCalls.asyncServerStreamingCall(call, query, new StreamObserver<ConsensusTopicResponse>() {
+        ClientCalls.asyncServerStreamingCall(call, state.resumeQuery(query), new ClientResponseObserver<ConsensusTopicQuery, ConsensusTopicResponse>() {
+            // set when this call was cancelled to fetch messages again with a new call
+            private volatile boolean refetching = false;
+
+            private boolean connected = false;
+
+            @Override
+            public void beforeStart(ClientCallStreamObserver<ConsensusTopicQuery> requestStream) {
+                if (demand != null) {
+                    demand.beforeStart(requestStream);
+                }
+            }
+
             @Override
             public void onNext(ConsensusTopicResponse consensusTopicResponse) {
-                if (!consensusTopicResponse.hasChunkInfo()) {
-                    // short circuit for no chunks
-                    var message = TopicMessage.ofSingle(consensusTopicResponse);
-                    startTime[0] = message.consensusTimestamp;
-                    try {
-                        onNext.accept(message);
-                    } catch (Throwable e) {
-                        if (errorHandler != null) {
-                            errorHandler.accept(e, message);
-                        }
+                if (subscriptionHandle.isUnsubscribed() || refetching) {
+                    return;
+                }
+
+                if (!connected) {
+                    connected = true;
+                    mirrorNode.recordConnected(System.nanoTime() - startedAtNanos);
+                }
+
+                var consensusTimestamp = InstantConverter.fromProtobuf(consensusTopicResponse.getConsensusTimestamp());
+
+                // only messages that reached consensus while we were subscribed say how far behind the mirror node is
+                if (consensusTimestamp.isAfter(startedAt)) {
+                    mirrorNode.recordLag(Duration.between(consensusTimestamp, Instant.now()).toNanos());
+                }
+
+                // a reconnect resumes from the last consensus timestamp we saw, drop anything we already have
+                if (consensusTopicResponse.getSequenceNumber() <= state.lastSequenceNumber) {
+                    if (demand != null) {
+                        demand.replenish();
                     }
+
                     return;
                 }
 
-                // get the list of chunks for this pending message
-                var initialTransactionID = consensusTopicResponse.getChunkInfo().getInitialTransactionID();
+                var verifier = state.verifier;
 
-                // Can't use `HashMap.putIfAbsent()` since that method is not available on Android
-                if (!pendingMessages.containsKey(initialTransactionID)) {
-                    pendingMessages.put(initialTransactionID, new ArrayList<>());
+                if (verifier != null && !verify(verifier, consensusTopicResponse)) {
+                    return;
                 }
 
-                ArrayList<ConsensusTopicResponse> chunks = pendingMessages.get(initialTransactionID);
+                state.attempt = 0;
+                state.responsesReceived += 1;
+                state.lastSequenceNumber = consensusTopicResponse.getSequenceNumber();
+                state.lastConsensusTimestamp = consensusTimestamp;
 
-                // not possible as we do [putIfAbsent]
-                // add our response to the pending chunk list
-                Objects.requireNonNull(chunks).add(consensusTopicResponse);
+                var onResponse = state.onResponse;
 
-                // if we now have enough chunks, emit
-                if (chunks.size() == consensusTopicResponse.getChunkInfo().getTotal()) {
-                    var message = TopicMessage.ofMany(chunks);
-                    startTime[0] = message.consensusTimestamp;
+                if (onResponse != null) {
                     try {
-                        onNext.accept(message);
+                        onResponse.accept(consensusTopicResponse);
                     } catch (Throwable e) {
                         if (errorHandler != null) {
                             errorHandler.accept(e, null);
                         }
                     }
+
+                    return;
+                }
+
+                var message = state.reassembler.add(consensusTopicResponse);
+
+                if (message == null) {
+                    // waiting on more chunks
+                    if (demand != null) {
+                        demand.replenish();
+                    }
+
+                    return;
+                }
+
+                if (demand != null) {
+                    demand.delivered();
+                }
+
+                var onNextDeferred = state.onNextDeferred;
+
+                try {
+                    if (onNextDeferred != null) {
+                        // the subscriber saves the checkpoint itself once it actually handled the message
+                        onNextDeferred.accept(
+                            PayloadEncoding.decode(message, state.payloadCodecs, state.maxDecodedPayloadSize),
+                            state.checkpointTask(message)
+                        );
+                    } else {
+                        onNext.accept(PayloadEncoding.decode(message, state.payloadCodecs, state.maxDecodedPayloadSize));
+                        state.checkpoint(message);
+                    }
+                } catch (Throwable e) {
+                    if (errorHandler != null) {
+                        errorHandler.accept(e, message);
+                    }
                 }
             }
 
+            /**
+             * @return {@code false} if {@code response} must not be delivered: messages are missing before it or
+             *     its running hash does not match, and the subscription reconnects to fetch them again, or it was
+             *     dropped as its running hash still did not match
+             */
+            private boolean verify(TopicRunningHashVerifier verifier, ConsensusTopicResponse response) {
+                if (verifier.isGap(response)) {
+                    var fromSequenceNumber = verifier.getLastSequenceNumber() + 1;
+                    var toSequenceNumber = response.getSequenceNumber() - 1;
+
+                    if (state.gapRetries < MAX_GAP_RETRIES) {
+                        logger.warn(
+                            "mirror node is missing messages {} to {}, reconnecting to fetch them again",
+                            fromSequenceNumber,
+                            toSequenceNumber
+                        );
+
+                        reconnect("fetching missing messages");
+
+                        return false;
+                    }
+
+                    var gapHandler = state.gapHandler;
+
+                    if (gapHandler != null && state.topicId != null) {
+                        gapHandler.accept(new TopicMessageGap(state.topicId, fromSequenceNumber, toSequenceNumber));
+                    }
+                }
+
+                if (!verifier.verify(response)) {
+                    if (state.gapRetries < MAX_GAP_RETRIES) {
+                        logger.warn(
+                            "running hash of message {} does not follow from the previous message, reconnecting to fetch it again",
+                            response.getSequenceNumber()
+                        );
+
+                        reconnect("fetching a message again");
+
+                        return false;
+                    }
+
+                    // move past the message without delivering it, so that it is not fetched again
+                    state.gapRetries = 0;
+                    state.responsesReceived += 1;
+                    state.lastSequenceNumber = response.getSequenceNumber();
+                    state.lastConsensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+                    verifier.skip(response);
+
+                    if (demand != null) {
+                        demand.replenish();
+                    }
+
+                    if (errorHandler != null) {
+                        errorHandler.accept(new IllegalStateException(
+                            "running hash of message " + response.getSequenceNumber() + " does not follow from the previous message, the message was dropped"
+                        ), null);
+                    }
+
+                    return false;
+                }
+
+                state.gapRetries = 0;
+
+                return true;
+            }
+
+            /**
+             * Cancel this call and make a new one, which resumes right after the last message received.
+             */
+            private void reconnect(String reason) {
+                state.gapRetries += 1;
+
+                refetching = true;
+                mirrorNode.recordError();
+                call.cancel(reason, null);
+
+                client.executor.execute(() -> {
+                    makeStreamingCall(client, subscriptionHandle, errorHandler, query, onNext, state);
+                });
+            }
+
             @Override
             public void onError(Throwable t) {
+                mirrorNode.subscriptionEnded();
+
+                if (refetching) {
+                    // a new call has already been made
+                    return;
+                }
+
                 if (t instanceof StatusRuntimeException) {
                     var status = (StatusRuntimeException) t;
 
@@ -145,29 +658,154 @@ public final class TopicMessageQuery {
                         status.getStatus().getCode().equals(Status.NOT_FOUND.getCode()) ||
                             status.getStatus().getCode().equals(Status.UNAVAILABLE.getCode())
                     ) {
-                        // Cannot use `CompletableFuture<U>` here since this future is never polled
-                        try {
-                            Thread.sleep(250 * (long) Math.pow(2, attempt));
-                        } catch (InterruptedException e) {
-                            // Do nothing
-                        }
+                        logger.warn("mirror subscription interrupted, reconnecting\nattempt={}\n{}", state.attempt, t.getMessage());
 
-                        if (startTime[0] != null) {
-                            startTime[0] = startTime[0].plusNanos(1);
-                        }
+                        mirrorNode.recordError();
+
+                        // schedule the reconnect on a timer instead of sleeping on this gRPC callback thread
+                        Delayer.delayBackOff(state.attempt, client.executor).thenRun(() -> {
+                            state.attempt += 1;
+                            makeStreamingCall(client, subscriptionHandle, errorHandler, query, onNext, state);
+                        });
 
-                        call.cancel("unsubscribed", null);
-                        makeStreamingCall(client, subscriptionHandle, errorHandler, query, onNext, attempt + 1, startTime);
+                        return;
                     }
-                } else if (errorHandler != null) {
+                }
+
+                if (errorHandler != null && !subscriptionHandle.isUnsubscribed()) {
                     errorHandler.accept(t, null);
                 }
             }
 
             @Override
             public void onCompleted() {
-                // Do nothing
+                mirrorNode.subscriptionEnded();
+
+                var onComplete = state.onComplete;
+
+                if (onComplete != null && !subscriptionHandle.isUnsubscribed()) {
+                    onComplete.run();
+                }
             }
         });
+
+        if (demand != null) {
+            demand.started();
+        }
+    }
+
+    /**
+     * Progress of a subscription that survives reconnecting to a mirror node.
+     * <p>
+     * Only one streaming call is active for a subscription at a time and gRPC serializes the callbacks of
+     * a call, so this is never accessed concurrently.
+     */
+    private static final class SubscriptionState {
+        int attempt = 0;
+
+        // sequence number and consensus timestamp of the last response received
+        long lastSequenceNumber = 0;
+
+        @Nullable
+        Instant lastConsensusTimestamp;
+
+        long responsesReceived = 0;
+
+        // chunks of messages that are not yet complete; kept across reconnects
+        final TopicMessageReassembler reassembler;
+
+        // only set for subscriptions with flow control
+        @Nullable
+        TopicMessageDemand demand;
+
+        @Nullable
+        Runnable onComplete;
+
+        // set to receive responses without reassembling chunked messages
+        @Nullable
+        Consumer<ConsensusTopicResponse> onResponse;
+
+        @Nullable
+        TopicCheckpointStore checkpointStore;
+
+        List<PayloadCodec> payloadCodecs = Collections.emptyList();
+
+        int maxDecodedPayloadSize = PayloadEncoding.DEFAULT_MAX_DECODED_SIZE;
+
+        // set when the subscriber queues messages and saves their checkpoints once they were handled
+        @Nullable
+        BiConsumer<TopicMessage, Runnable> onNextDeferred;
+
+        @Nullable
+        TopicId topicId;
+
+        @Nullable
+        TopicRunningHashVerifier verifier;
+
+        @Nullable
+        Consumer<TopicMessageGap> gapHandler;
+
+        int gapRetries = 0;
+
+        SubscriptionState(TopicMessageReassembler reassembler) {
+            this.reassembler = reassembler;
+        }
+
+        /**
+         * Build the query for the next streaming call, resuming right after the last response received
+         * and only asking for what remains of the limit.
+         */
+        ConsensusTopicQuery resumeQuery(ConsensusTopicQuery query) {
+            var lastTimestamp = lastConsensusTimestamp;
+
+            if (lastTimestamp == null) {
+                return query;
+            }
+
+            var resumeAt = lastTimestamp.plusNanos(1);
+            var resumed = query.toBuilder();
+
+            if (!query.hasConsensusStartTime() || InstantConverter.fromProtobuf(query.getConsensusStartTime()).isBefore(resumeAt)) {
+                resumed.setConsensusStartTime(InstantConverter.toProtobuf(resumeAt));
+            }
+
+            if (query.getLimit() > 0) {
+                resumed.setLimit(Math.max(query.getLimit() - responsesReceived, 1));
+            }
+
+            return resumed.build();
+        }
+
+        void checkpoint(TopicMessage message) {
+            checkpointTask(message).run();
+        }
+
+        /**
+         * @return the task saving the checkpoint for {@code message}, which may be run later from another thread
+         */
+        Runnable checkpointTask(TopicMessage message) {
+            var store = checkpointStore;
+            var topic = topicId;
+
+            if (store == null || topic == null) {
+                return () -> {
+                };
+            }
+
+            var earliestPending = reassembler.getEarliestPendingChunk();
+            TopicCheckpoint checkpoint;
+
+            if (earliestPending != null && earliestPending.getSequenceNumber() <= message.sequenceNumber) {
+                // stop right before the chunks of a message still being reassembled so that they are received
+                // again when resuming from this checkpoint
+                checkpoint = new TopicCheckpoint(
+                    earliestPending.getSequenceNumber() - 1,
+                    InstantConverter.fromProtobuf(earliestPending.getConsensusTimestamp()).minusNanos(1));
+            } else {
+                checkpoint = new TopicCheckpoint(message.sequenceNumber, message.consensusTimestamp);
+            }
+
+            return () -> store.save(topic, checkpoint);
+        }
     }
 }
@@ -0,0 +1,200 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.hedera.hashgraph.sdk.proto.TransactionID;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java8.util.function.Consumer;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reassembles chunked topic messages from the responses of a mirror subscription.
+ * <p>
+ * Partial messages are held until their last chunk arrives, bounded by the number of messages pending,
+ * the total size of their chunks and how long (in consensus time) they have been pending. A partial message
+ * that has to be dropped to stay within those bounds is reported to {@code onIncompleteMessage} with the
+ * initial transaction ID of the message.
+ * <p>
+ * Not thread-safe; a subscription only feeds responses from one streaming call at a time.
+ */
+final class TopicMessageReassembler {
+    // pending messages in the order their first chunk was received; the oldest is evicted first
+    private final LinkedHashMap<TransactionID, PendingMessage> pending = new LinkedHashMap<>();
+
+    private final int maxPendingMessages;
+
+    private final long maxPendingBytes;
+
+    private final Duration pendingTimeout;
+
+    @Nullable
+    private final Consumer<TransactionId> onIncompleteMessage;
+
+    private long pendingBytes = 0;
+
+    TopicMessageReassembler(
+        int maxPendingMessages,
+        long maxPendingBytes,
+        Duration pendingTimeout,
+        @Nullable Consumer<TransactionId> onIncompleteMessage
+    ) {
+        this.maxPendingMessages = maxPendingMessages;
+        this.maxPendingBytes = maxPendingBytes;
+        this.pendingTimeout = pendingTimeout;
+        this.onIncompleteMessage = onIncompleteMessage;
+    }
+
+    /**
+     * Add a response to the buffer.
+     *
+     * @return the whole message if {@code response} was its last missing chunk, otherwise {@code null}
+     */
+    @Nullable
+    TopicMessage add(ConsensusTopicResponse response) {
+        var consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+
+        evictExpired(consensusTimestamp);
+
+        if (!response.hasChunkInfo()) {
+            return TopicMessage.ofSingle(response);
+        }
+
+        var chunkInfo = response.getChunkInfo();
+        var total = chunkInfo.getTotal();
+        var number = chunkInfo.getNumber();
+
+        if (total <= 1) {
+            return TopicMessage.ofSingle(response);
+        }
+
+        if (number < 1 || number > total) {
+            // a malformed chunk can never complete a message
+            return null;
+        }
+
+        var initialTransactionID = chunkInfo.getInitialTransactionID();
+        @Var PendingMessage message = pending.get(initialTransactionID);
+
+        if (message == null) {
+            message = new PendingMessage(total, consensusTimestamp);
+            pending.put(initialTransactionID, message);
+        }
+
+        if (message.received.get(number - 1)) {
+            // a chunk we already hold, possibly re-sent by a mirror node
+            return null;
+        }
+
+        message.received.set(number - 1);
+        message.responses.add(response);
+        message.size += response.getMessage().size();
+        pendingBytes += response.getMessage().size();
+
+        if (message.responses.size() == message.total) {
+            pending.remove(initialTransactionID);
+            pendingBytes -= message.size;
+
+            return TopicMessage.ofMany(message.responses);
+        }
+
+        evictOverflow();
+
+        return null;
+    }
+
+    /**
+     * @return the earliest chunk received of the messages still waiting on more chunks, or {@code null} if
+     * there are none
+     */
+    @Nullable
+    ConsensusTopicResponse getEarliestPendingChunk() {
+        // pending messages are in the order they were started and hold their chunks in the order received
+        Iterator<PendingMessage> iterator = pending.values().iterator();
+
+        return iterator.hasNext() ? iterator.next().responses.get(0) : null;
+    }
+
+    /**
+     * Drop every message still waiting on more chunks, reporting each to {@code onIncompleteMessage}.
+     */
+    void dropPending() {
+        Iterator<Map.Entry<TransactionID, PendingMessage>> iterator = pending.entrySet().iterator();
+
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+
+            iterator.remove();
+            dropped(entry.getKey(), entry.getValue());
+        }
+    }
+
+    int getPendingMessageCount() {
+        return pending.size();
+    }
+
+    long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    private void evictExpired(Instant now) {
+        var cutoff = now.minus(pendingTimeout);
+        Iterator<Map.Entry<TransactionID, PendingMessage>> iterator = pending.entrySet().iterator();
+
+        // pending messages are in the order they were started so we can stop at the first one that is fresh
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+
+            if (!entry.getValue().startedAt.isBefore(cutoff)) {
+                break;
+            }
+
+            iterator.remove();
+            dropped(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<TransactionID, PendingMessage>> iterator = pending.entrySet().iterator();
+
+        while ((pending.size() > maxPendingMessages || pendingBytes > maxPendingBytes) && iterator.hasNext()) {
+            var entry = iterator.next();
+
+            iterator.remove();
+            dropped(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void dropped(TransactionID initialTransactionID, PendingMessage message) {
+        pendingBytes -= message.size;
+
+        if (onIncompleteMessage != null) {
+            onIncompleteMessage.accept(TransactionId.fromProtobuf(initialTransactionID));
+        }
+    }
+
+    private static final class PendingMessage {
+        final int total;
+
+        final Instant startedAt;
+
+        // responses in the order they were received
+        final ArrayList<ConsensusTopicResponse> responses = new ArrayList<>();
+
+        // chunk numbers (starting at 0) that have been received
+        final BitSet received = new BitSet();
+
+        long size = 0;
+
+        PendingMessage(int total, Instant startedAt) {
+            this.total = total;
+            this.startedAt = startedAt;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import java8.util.concurrent.CompletableFuture;
+import java8.util.function.Consumer;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Downloads all messages of a topic between two consensus times, several segments at once.
+ * <p>
+ * The time range is split into {@code segmentCount} segments of equal length which are streamed concurrently,
+ * at most {@code maxConcurrentSegments} at a time, from whichever mirror nodes are healthiest. Segments are
+ * handed out in consensus order, one batch per segment, so the consumer sees every message exactly once and
+ * in order. Chunked messages that straddle two segments are reassembled as well.
+ * <p>
+ * Each segment is held in memory whole until it is handed out. A segment is only started once every segment
+ * more than {@code maxConcurrentSegments} before it was handed out, so at most that many segments are held at a
+ * time; split a busy range into more segments to hold fewer messages at once.
+ */
+public final class TopicMessageReplay {
+    private static final int DEFAULT_SEGMENT_COUNT = 16;
+
+    private static final int DEFAULT_MAX_CONCURRENT_SEGMENTS = 4;
+
+    @Nullable
+    private TopicId topicId;
+
+    @Nullable
+    private Instant startTime;
+
+    @Nullable
+    private Instant endTime;
+
+    private int segmentCount = DEFAULT_SEGMENT_COUNT;
+
+    private int maxConcurrentSegments = DEFAULT_MAX_CONCURRENT_SEGMENTS;
+
+    @Nullable
+    private Consumer<TransactionId> incompleteMessageHandler;
+
+    public TopicMessageReplay() {
+    }
+
+    public TopicMessageReplay setTopicId(TopicId topicId) {
+        this.topicId = topicId;
+        return this;
+    }
+
+    /**
+     * @param startTime The consensus time of the first message to replay, inclusive
+     * @return {@code this}
+     */
+    public TopicMessageReplay setStartTime(Instant startTime) {
+        this.startTime = startTime;
+        return this;
+    }
+
+    /**
+     * @param endTime The consensus time to replay up to, exclusive
+     * @return {@code this}
+     */
+    public TopicMessageReplay setEndTime(Instant endTime) {
+        this.endTime = endTime;
+        return this;
+    }
+
+    /**
+     * Set the number of segments the time range is split into. Defaults to 16.
+     *
+     * @param segmentCount The number of segments
+     * @return {@code this}
+     */
+    public TopicMessageReplay setSegmentCount(int segmentCount) {
+        if (segmentCount <= 0) {
+            throw new IllegalArgumentException("segmentCount must be positive");
+        }
+
+        this.segmentCount = segmentCount;
+        return this;
+    }
+
+    /**
+     * Set the number of segments streamed at the same time. Defaults to 4.
+     *
+     * @param maxConcurrentSegments The number of concurrent streams
+     * @return {@code this}
+     */
+    public TopicMessageReplay setMaxConcurrentSegments(int maxConcurrentSegments) {
+        if (maxConcurrentSegments <= 0) {
+            throw new IllegalArgumentException("maxConcurrentSegments must be positive");
+        }
+
+        this.maxConcurrentSegments = maxConcurrentSegments;
+        return this;
+    }
+
+    /**
+     * Set the handler called with the initial transaction ID of a chunked message that is not handed out
+     * because some of its chunks are not in the time range, or did not reach consensus within 5 minutes of
+     * its first chunk.
+     *
+     * @param incompleteMessageHandler The handler
+     * @return {@code this}
+     */
+    public TopicMessageReplay setIncompleteMessageHandler(Consumer<TransactionId> incompleteMessageHandler) {
+        this.incompleteMessageHandler = incompleteMessageHandler;
+        return this;
+    }
+
+    /**
+     * Replay the messages of the topic.
+     *
+     * @param client The client with the mirror network to replay from
+     * @param onBatch Called with the messages of each segment, in consensus order, one segment at a time
+     * @return a future that completes once every segment was handed out, or fails if a segment could not be
+     *     downloaded or {@code onBatch} throws; cancelling it stops the replay
+     */
+    public CompletableFuture<Void> replayAsync(Client client, Consumer<List<TopicMessage>> onBatch) {
+        var topicId = this.topicId;
+        var startTime = this.startTime;
+        var endTime = this.endTime;
+
+        if (topicId == null || startTime == null || endTime == null) {
+            throw new IllegalStateException("topic ID, start time and end time must be set to replay a topic");
+        }
+
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("start time must be before end time");
+        }
+
+        var replay = new Replay(
+            client,
+            topicId,
+            segmentBoundaries(startTime, endTime),
+            maxConcurrentSegments,
+            onBatch,
+            incompleteMessageHandler
+        );
+        replay.startSegments();
+
+        return replay.future;
+    }
+
+    Instant[] segmentBoundaries(Instant startTime, Instant endTime) {
+        var range = Duration.between(startTime, endTime);
+
+        // never split finer than a nanosecond
+        var count = (int) Math.max(Math.min(segmentCount, range.toNanos()), 1);
+        var boundaries = new Instant[count + 1];
+
+        for (var i = 0; i < count; i++) {
+            boundaries[i] = startTime.plus(range.multipliedBy(i).dividedBy(count));
+        }
+
+        boundaries[count] = endTime;
+
+        return boundaries;
+    }
+
+    private static final class Replay {
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        final Client client;
+
+        final TopicId topicId;
+
+        final Instant[] boundaries;
+
+        final int maxConcurrentSegments;
+
+        final Consumer<List<TopicMessage>> onBatch;
+
+        // hands segments out one at a time, in order
+        final SerialExecutor deliveryExecutor;
+
+        // chunked messages may straddle segments so they are reassembled as segments are handed out
+        final TopicMessageReassembler reassembler;
+
+        // responses of segments that completed but were not handed out yet
+        final List<List<ConsensusTopicResponse>> completed = new ArrayList<>();
+
+        final List<SubscriptionHandle> handles = new ArrayList<>();
+
+        int nextToStart = 0;
+
+        int nextToDeliver = 0;
+
+        Replay(
+            Client client,
+            TopicId topicId,
+            Instant[] boundaries,
+            int maxConcurrentSegments,
+            Consumer<List<TopicMessage>> onBatch,
+            @Nullable Consumer<TransactionId> incompleteMessageHandler
+        ) {
+            this.client = client;
+            this.topicId = topicId;
+            this.boundaries = boundaries;
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            this.onBatch = onBatch;
+            this.reassembler = new TopicMessageReassembler(
+                Integer.MAX_VALUE,
+                Long.MAX_VALUE,
+                Duration.ofMinutes(5),
+                incompleteMessageHandler
+            );
+            this.deliveryExecutor = new SerialExecutor(client.executor);
+
+            for (var i = 0; i < boundaries.length - 1; i++) {
+                completed.add(null);
+            }
+
+            // however the replay fails, including when it is cancelled, stop the segments still streaming
+            future.whenComplete((result, error) -> {
+                if (error != null) {
+                    stopSegments();
+                }
+            });
+        }
+
+        synchronized void startSegments() {
+            while (
+                !future.isDone() &&
+                    nextToStart < boundaries.length - 1 &&
+                    nextToStart < nextToDeliver + maxConcurrentSegments
+            ) {
+                startSegment(nextToStart);
+                nextToStart += 1;
+            }
+        }
+
+        private void startSegment(int index) {
+            var responses = new ArrayList<ConsensusTopicResponse>();
+
+            var handle = new TopicMessageQuery()
+                .setTopicId(topicId)
+                .setStartTime(boundaries[index])
+                .setEndTime(boundaries[index + 1])
+                .subscribeResponses(
+                    client,
+                    responses::add,
+                    () -> segmentCompleted(index, responses),
+                    (error, message) -> fail(error)
+                );
+
+            handles.add(handle);
+        }
+
+        private void segmentCompleted(int index, List<ConsensusTopicResponse> responses) {
+            synchronized (this) {
+                completed.set(index, responses);
+            }
+
+            deliveryExecutor.execute(this::deliver);
+        }
+
+        private void deliver() {
+            while (!future.isDone()) {
+                List<ConsensusTopicResponse> responses;
+
+                synchronized (this) {
+                    if (nextToDeliver == completed.size()) {
+                        break;
+                    }
+
+                    responses = completed.get(nextToDeliver);
+
+                    if (responses == null) {
+                        // waiting on the next segment in order
+                        return;
+                    }
+
+                    completed.set(nextToDeliver, null);
+                    nextToDeliver += 1;
+                }
+
+                startSegments();
+
+                var batch = new ArrayList<TopicMessage>(responses.size());
+
+                for (var response : responses) {
+                    var message = reassembler.add(response);
+
+                    if (message != null) {
+                        batch.add(message);
+                    }
+                }
+
+                try {
+                    onBatch.accept(batch);
+                } catch (Throwable error) {
+                    fail(error);
+                }
+            }
+
+            if (future.isDone()) {
+                return;
+            }
+
+            // every segment was handed out; the rest of the messages still pending is past the end of the range
+            try {
+                reassembler.dropPending();
+            } catch (Throwable error) {
+                fail(error);
+                return;
+            }
+
+            future.complete(null);
+        }
+
+        private void fail(Throwable error) {
+            future.completeExceptionally(error);
+        }
+
+        private void stopSegments() {
+            List<SubscriptionHandle> stopped;
+
+            synchronized (this) {
+                stopped = new ArrayList<>(handles);
+            }
+
+            for (var handle : stopped) {
+                handle.unsubscribe();
+            }
+        }
+    }
+}
@@ -84,7 +84,7 @@ public final class TopicMessageSubmitTransaction extends ChunkedTransaction<Topi
 
     @Override
     void onFreezeChunk(TransactionBody.Builder body, TransactionID initialTransactionId, int startIndex, int endIndex, int chunk, int total) {
-        body.setConsensusSubmitMessage(builder.setMessage(data.substring(startIndex, endIndex))
+        body.setConsensusSubmitMessage(builder.setMessage(getPayload().substring(startIndex, endIndex))
             .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
                 .setInitialTransactionID(initialTransactionId)
                 .setNumber(chunk + 1)
@@ -0,0 +1,41 @@
+package com.hedera.hashgraph.sdk;
+
+/**
+ * Receives topic messages at its own pace from
+ * {@link TopicMessageQuery#subscribe(Client, TopicMessageSubscriber)}.
+ * <p>
+ * No message is delivered until it has been requested with {@link SubscriptionHandle#request(long)}, so at
+ * most the number of messages requested are ever buffered on behalf of the subscriber. This follows the
+ * shape of a reactive-streams {@code Subscriber} so it can be adapted to one without an intermediate buffer.
+ * <p>
+ * Calls for a subscription never overlap but may happen on different threads.
+ */
+public interface TopicMessageSubscriber {
+    /**
+     * Called once, before any other method, with the handle used to request messages and to cancel the
+     * subscription.
+     *
+     * @param subscription The handle for this subscription
+     */
+    void onSubscribe(SubscriptionHandle subscription);
+
+    /**
+     * Called with the next message; only called while messages are outstanding.
+     *
+     * @param message The next message of the topic
+     */
+    void onNext(TopicMessage message);
+
+    /**
+     * Called once if the subscription fails or {@link #onNext(TopicMessage)} throws. No other method is
+     * called afterwards.
+     *
+     * @param error The failure
+     */
+    void onError(Throwable error);
+
+    /**
+     * Called once when the end time or limit of the query was reached. No other method is called afterwards.
+     */
+    void onComplete();
+}
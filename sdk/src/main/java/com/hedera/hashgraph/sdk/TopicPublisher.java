@@ -0,0 +1,375 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import io.grpc.StatusRuntimeException;
+import java8.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Publishes messages to a topic, many submissions at a time.
+ * <p>
+ * Messages are queued, up to {@code maxQueuedMessages}, and submitted in the order they were published.
+ * Submissions are sent one after another to the same node, each as soon as that node accepted the
+ * previous one, while up to {@code maxInFlight} submissions wait to reach consensus. A node adds the
+ * transactions it accepts to consensus in the order it accepted them, so messages reach consensus in
+ * the order they were published. Should that node stop accepting submissions, every submission in
+ * flight must reach consensus before the next one is sent to another node.
+ * <p>
+ * A submission the node may have accepted, e.g. one that timed out, is sent again with the same
+ * transaction ID, so that the network applies it at most once. A submission the node rejected for good,
+ * e.g. with {@link Status#INVALID_TOPIC_ID}, is not sent again.
+ * <p>
+ * With {@link #setMaxBatchBytes(int)}, the small messages waiting in the queue when a submission is
+ * sent are packed into it, see {@link TopicMessageBatch}. Subscribers unpack them with
+ * {@link TopicMessageBatch#unpacking(java8.util.function.Consumer)}.
+ * <p>
+ * Each message is signed by the operator of the client, which pays for it.
+ */
+public final class TopicPublisher {
+    private static final int DEFAULT_MAX_QUEUED_MESSAGES = 1000;
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 16;
+
+    private final Client client;
+
+    private final TopicId topicId;
+
+    private int maxQueuedMessages = DEFAULT_MAX_QUEUED_MESSAGES;
+
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    // 0 when messages are not packed
+    private int maxBatchBytes = 0;
+
+    private final Queue<QueuedMessage> queue = new ArrayDeque<>();
+
+    // submissions waiting to reach consensus, which may have to be waited on before moving to another node
+    private final Set<CompletableFuture<?>> receipts = new HashSet<>();
+
+    // the node that accepted the last submission
+    @Nullable
+    private AccountId pinnedNodeId;
+
+    private int inFlight = 0;
+
+    // submissions are sent one at a time
+    private boolean submitting = false;
+
+    public TopicPublisher(Client client, TopicId topicId) {
+        this.client = client;
+        this.topicId = topicId;
+    }
+
+    /**
+     * Set the number of messages that may wait in the queue. Defaults to 1000.
+     *
+     * @param maxQueuedMessages The number of queued messages
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxQueuedMessages(int maxQueuedMessages) {
+        if (maxQueuedMessages <= 0) {
+            throw new IllegalArgumentException("maxQueuedMessages must be positive");
+        }
+
+        this.maxQueuedMessages = maxQueuedMessages;
+        return this;
+    }
+
+    /**
+     * Set the number of submissions that may wait to reach consensus at the same time. Defaults to 16.
+     *
+     * @param maxInFlight The number of submissions in flight
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxInFlight(int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive");
+        }
+
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Pack queued messages into a single submission of up to {@code maxBatchBytes} bytes. Defaults to 0,
+     * which submits each message on its own. A message too large to be packed with another is submitted
+     * on its own, packed as a batch of one if it starts like a packed message so that
+     * {@link TopicMessageBatch#unpacking(java8.util.function.Consumer)} hands it out intact.
+     *
+     * @param maxBatchBytes The size of a packed submission, at most the size of a chunk
+     * @return {@code this}
+     */
+    public synchronized TopicPublisher setMaxBatchBytes(int maxBatchBytes) {
+        if (maxBatchBytes < 0 || maxBatchBytes > ChunkedTransaction.CHUNK_SIZE) {
+            throw new IllegalArgumentException("maxBatchBytes must be between 0 and " + ChunkedTransaction.CHUNK_SIZE);
+        }
+
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    public CompletableFuture<Long> publishAsync(String message) {
+        return publishAsync(ByteString.copyFromUtf8(message));
+    }
+
+    public CompletableFuture<Long> publishAsync(byte[] message) {
+        return publishAsync(ByteString.copyFrom(message));
+    }
+
+    /**
+     * Queue a message to be published.
+     *
+     * @param message The message
+     * @return a future of the sequence number of the topic message the message was published in, which
+     *     fails if the queue is full or the message could not be submitted
+     */
+    public CompletableFuture<Long> publishAsync(ByteString message) {
+        var queued = new QueuedMessage(message);
+
+        synchronized (this) {
+            if (queue.size() >= maxQueuedMessages) {
+                return CompletableFuture.failedFuture(new IllegalStateException(
+                    "the queue of topic " + topicId + " is full with " + maxQueuedMessages + " messages"));
+            }
+
+            queue.add(queued);
+        }
+
+        submitNext();
+
+        return queued.future;
+    }
+
+    public synchronized int getQueuedMessageCount() {
+        return queue.size();
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    private void submitNext() {
+        List<QueuedMessage> batch;
+        @Nullable AccountId nodeId;
+        boolean pack;
+
+        synchronized (this) {
+            if (submitting || inFlight >= maxInFlight || queue.isEmpty()) {
+                return;
+            }
+
+            batch = takeBatch();
+            nodeId = pinnedNodeId;
+
+            // a message of its own that looks like a packed one would be unpacked by subscribers, so it is
+            // packed as a batch of one
+            pack = batch.size() > 1 || (maxBatchBytes > 0 && TopicMessageBatch.startsLikePacked(batch.get(0).message));
+
+            submitting = true;
+            inFlight += 1;
+        }
+
+        var operatorId = client.getOperatorAccountId();
+
+        if (operatorId == null) {
+            failed(batch, new IllegalStateException("`client` must have an `operator` to publish messages"));
+            return;
+        }
+
+        // the transaction ID is chosen once, so that the network applies the submission at most once however
+        // many times it is sent
+        submit(batch, nodeId, pack, TransactionId.generate(operatorId));
+    }
+
+    private List<QueuedMessage> takeBatch() {
+        var first = queue.remove();
+
+        if (maxBatchBytes == 0) {
+            return Collections.singletonList(first);
+        }
+
+        var batch = new ArrayList<QueuedMessage>();
+        batch.add(first);
+
+        @Var var size = TopicMessageBatch.HEADER_SIZE + TopicMessageBatch.FRAME_OVERHEAD + first.message.size();
+
+        for (@Var var next = queue.peek(); next != null; next = queue.peek()) {
+            var nextSize = size + TopicMessageBatch.FRAME_OVERHEAD + next.message.size();
+
+            if (nextSize > maxBatchBytes) {
+                break;
+            }
+
+            batch.add(queue.remove());
+            size = nextSize;
+        }
+
+        return batch;
+    }
+
+    private void submit(List<QueuedMessage> batch, @Nullable AccountId nodeId, boolean pack, TransactionId transactionId) {
+        ByteString message;
+
+        if (pack) {
+            var messages = new ArrayList<ByteString>(batch.size());
+
+            for (var queued : batch) {
+                messages.add(queued.message);
+            }
+
+            message = TopicMessageBatch.pack(messages);
+        } else {
+            message = batch.get(0).message;
+        }
+
+        var transaction = new TopicMessageSubmitTransaction()
+            .setTransactionId(transactionId)
+            .setTopicId(topicId)
+            .setMessage(message)
+            .setMaxChunks(Math.max(1, (message.size() + ChunkedTransaction.CHUNK_SIZE - 1) / ChunkedTransaction.CHUNK_SIZE));
+
+        if (nodeId != null) {
+            transaction.setNodeAccountIds(Collections.singletonList(nodeId));
+        }
+
+        transaction.executeAllAsync(client).whenComplete((responses, error) -> {
+            if (error == null) {
+                submitted(batch, responses.get(responses.size() - 1));
+                return;
+            }
+
+            var cause = lastCause(error);
+
+            if (
+                cause instanceof PrecheckStatusException &&
+                    ((PrecheckStatusException) cause).status == Status.DUPLICATE_TRANSACTION
+            ) {
+                // sent again after all, and the network already had it; its receipt tells how it went
+                var lastTransactionId = transaction.transactionIds.get(transaction.transactionIds.size() - 1);
+
+                accepted(batch, null, lastTransactionId.getReceiptAsync(client));
+                return;
+            }
+
+            if (nodeId == null || !mayBeSentAgain(cause)) {
+                failed(batch, error);
+                return;
+            }
+
+            // moving to another node could reorder this submission with the submissions in flight
+            // so wait for all of them to reach consensus first
+            CompletableFuture<?>[] earlier;
+
+            synchronized (this) {
+                pinnedNodeId = null;
+                earlier = receipts.toArray(new CompletableFuture<?>[0]);
+            }
+
+            CompletableFuture.allOf(earlier).whenComplete((v, receiptError) -> submit(batch, null, pack, transactionId));
+        });
+    }
+
+    /**
+     * @return the error the submission failed with last, past the exceptions the futures wrap errors in
+     *     and running out of attempts
+     */
+    private static Throwable lastCause(Throwable error) {
+        @Var var cause = error;
+
+        while (
+            cause.getCause() != null &&
+                !(cause instanceof PrecheckStatusException) &&
+                !(cause instanceof StatusRuntimeException)
+        ) {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
+
+    /**
+     * @return whether the node did not reject the submission for good, so that it may be sent again,
+     *     with the same transaction ID, to another node
+     */
+    private static boolean mayBeSentAgain(Throwable cause) {
+        if (cause instanceof StatusRuntimeException) {
+            // the node may or may not have accepted it
+            return true;
+        }
+
+        if (cause instanceof PrecheckStatusException) {
+            var status = ((PrecheckStatusException) cause).status;
+
+            return status == Status.BUSY
+                || status == Status.PLATFORM_TRANSACTION_NOT_CREATED
+                || status == Status.PLATFORM_NOT_ACTIVE;
+        }
+
+        return false;
+    }
+
+    private void submitted(List<QueuedMessage> batch, TransactionResponse response) {
+        accepted(batch, response.nodeId, response.getReceiptAsync(client));
+    }
+
+    private void accepted(List<QueuedMessage> batch, @Nullable AccountId nodeId, CompletableFuture<TransactionReceipt> receipt) {
+        synchronized (this) {
+            pinnedNodeId = nodeId;
+            submitting = false;
+            receipts.add(receipt);
+        }
+
+        receipt.whenComplete((r, error) -> {
+            synchronized (this) {
+                receipts.remove(receipt);
+                inFlight -= 1;
+            }
+
+            if (error != null) {
+                for (var queued : batch) {
+                    queued.future.completeExceptionally(error);
+                }
+            } else {
+                for (var queued : batch) {
+                    queued.future.complete(r.topicSequenceNumber);
+                }
+            }
+
+            submitNext();
+        });
+
+        submitNext();
+    }
+
+    private void failed(List<QueuedMessage> batch, Throwable error) {
+        synchronized (this) {
+            submitting = false;
+            inFlight -= 1;
+        }
+
+        for (var queued : batch) {
+            queued.future.completeExceptionally(error);
+        }
+
+        submitNext();
+    }
+
+    private static final class QueuedMessage {
+        final ByteString message;
+
+        final CompletableFuture<Long> future = new CompletableFuture<>();
+
+        QueuedMessage(ByteString message) {
+            this.message = message;
+        }
+    }
+}
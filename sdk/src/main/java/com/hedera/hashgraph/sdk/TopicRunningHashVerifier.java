@@ -0,0 +1,151 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+
+import javax.annotation.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Checks the continuity of the responses of one topic: sequence numbers must increase by exactly one and
+ * each running hash must follow from the one before it.
+ * <p>
+ * Only the last sequence number and running hash are kept, so memory does not grow with the stream.
+ * <p>
+ * The running hash covers the account that paid for the message. The mirror node only reports that account
+ * for chunked messages, as the account of the initial transaction ID, so the running hash of a message that
+ * was not chunked is taken as reported and only its sequence number is checked.
+ */
+final class TopicRunningHashVerifier {
+    // the only version whose input we can rebuild from a response
+    private static final long RUNNING_HASH_VERSION = 3;
+
+    private static final int HASH_SIZE = 48;
+
+    // previous hash, version, payer, topic, seconds, nanos, sequence number and message hash
+    private static final int BLOCK_SIZE = HASH_SIZE + 8 + 24 + 24 + 8 + 4 + 8 + HASH_SIZE;
+
+    private final TopicId topicId;
+
+    private final SHA384Digest digest = new SHA384Digest();
+
+    // the input to the running hash, framed the way network nodes serialize it with an ObjectOutputStream:
+    // the stream header followed by a single block of data
+    private final ByteBuffer input = ByteBuffer.allocate(4 + 2 + BLOCK_SIZE);
+
+    private final byte[] messageHash = new byte[HASH_SIZE];
+
+    private final byte[] runningHash = new byte[HASH_SIZE];
+
+    private boolean anchored = false;
+
+    private long lastSequenceNumber = 0;
+
+    @Nullable
+    private byte[] lastRunningHash;
+
+    TopicRunningHashVerifier(TopicId topicId) {
+        this.topicId = topicId;
+    }
+
+    /**
+     * Start checking sequence numbers after a message that was already processed, for example a checkpoint.
+     */
+    void anchor(long sequenceNumber) {
+        anchored = true;
+        lastSequenceNumber = sequenceNumber;
+        lastRunningHash = null;
+    }
+
+    long getLastSequenceNumber() {
+        return lastSequenceNumber;
+    }
+
+    /**
+     * @return {@code true} if messages are missing between the last response verified and {@code response}
+     */
+    boolean isGap(ConsensusTopicResponse response) {
+        return anchored && response.getSequenceNumber() > lastSequenceNumber + 1;
+    }
+
+    /**
+     * Move past {@code response} if its running hash follows from the previous one, or cannot be checked.
+     *
+     * @return {@code false} if the running hash of {@code response} does not follow from the previous one, in
+     *     which case the verifier stays where it was
+     */
+    boolean verify(ConsensusTopicResponse response) {
+        var previous = lastRunningHash;
+        var reported = response.getRunningHash();
+
+        if (
+            previous != null &&
+                response.getSequenceNumber() == lastSequenceNumber + 1 &&
+                response.getRunningHashVersion() == RUNNING_HASH_VERSION &&
+                response.hasChunkInfo() &&
+                response.getChunkInfo().hasInitialTransactionID()
+        ) {
+            var payer = AccountId.fromProtobuf(response.getChunkInfo().getInitialTransactionID().getAccountID());
+
+            computeRunningHash(previous, payer, response);
+
+            if (reported.size() != HASH_SIZE || !Arrays.equals(runningHash, reported.toByteArray())) {
+                return false;
+            }
+        }
+
+        anchored = true;
+        lastSequenceNumber = response.getSequenceNumber();
+
+        if (reported.size() == HASH_SIZE) {
+            var hash = previous != null ? previous : new byte[HASH_SIZE];
+            reported.copyTo(hash, 0);
+            lastRunningHash = hash;
+        } else {
+            lastRunningHash = null;
+        }
+
+        return true;
+    }
+
+    /**
+     * Move past {@code response} without checking it. Its running hash is not trusted, so the running hash of
+     * the next response is not checked either.
+     */
+    void skip(ConsensusTopicResponse response) {
+        anchor(response.getSequenceNumber());
+    }
+
+    private void computeRunningHash(byte[] previous, AccountId payer, ConsensusTopicResponse response) {
+        var message = response.getMessage();
+        var consensusTimestamp = response.getConsensusTimestamp();
+
+        digest.update(message.toByteArray(), 0, message.size());
+        digest.doFinal(messageHash, 0);
+
+        input.clear();
+
+        // ObjectOutputStream stream header
+        input.putShort((short) 0xACED).putShort((short) 5);
+
+        // TC_BLOCKDATA and the length of the block
+        input.put((byte) 0x77).put((byte) BLOCK_SIZE);
+
+        input.put(previous)
+            .putLong(RUNNING_HASH_VERSION)
+            .putLong(payer.shard)
+            .putLong(payer.realm)
+            .putLong(payer.num)
+            .putLong(topicId.shard)
+            .putLong(topicId.realm)
+            .putLong(topicId.num)
+            .putLong(consensusTimestamp.getSeconds())
+            .putInt(consensusTimestamp.getNanos())
+            .putLong(response.getSequenceNumber())
+            .put(messageHash);
+
+        digest.update(input.array(), 0, input.position());
+        digest.doFinal(runningHash, 0);
+    }
+}
@@ -0,0 +1,275 @@
+package com.hedera.hashgraph.sdk;
+
+import java8.util.function.BiConsumer;
+import java8.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Subscribes to many topics at once and hands their messages to a pool of workers.
+ * <p>
+ * Messages of one topic are handled one at a time and in consensus order, while messages of different topics
+ * are handled in parallel, so a slow handler only delays its own topic. Each topic holds at most
+ * {@code maxQueuedMessages} messages that are waiting to be handled; past that, flow control stops the
+ * mirror node from sending more for that topic until its handler catches up.
+ * <p>
+ * All subscriptions share the mirror node channels of the client.
+ */
+public final class TopicSubscriptionManager {
+    private static final Logger logger = LoggerFactory.getLogger(TopicSubscriptionManager.class);
+
+    private static final int DEFAULT_MAX_QUEUED_MESSAGES = 100;
+
+    private final Client client;
+
+    private final Executor executor;
+
+    private final HashMap<TopicId, TopicSubscription> subscriptions = new HashMap<>();
+
+    private int maxQueuedMessages = DEFAULT_MAX_QUEUED_MESSAGES;
+
+    @Nullable
+    private BiConsumer<TopicId, Throwable> errorHandler;
+
+    /**
+     * @param client The client with the mirror network to subscribe to
+     * @param executor The workers that handle messages; shared by all topics
+     */
+    public TopicSubscriptionManager(Client client, Executor executor) {
+        this.client = client;
+        this.executor = executor;
+    }
+
+    /**
+     * Set the maximum number of messages per topic waiting to be handled. Defaults to 100.
+     *
+     * @param maxQueuedMessages The maximum number of messages per topic
+     * @return {@code this}
+     */
+    public synchronized TopicSubscriptionManager setMaxQueuedMessages(int maxQueuedMessages) {
+        if (maxQueuedMessages <= 0) {
+            throw new IllegalArgumentException("maxQueuedMessages must be positive");
+        }
+
+        this.maxQueuedMessages = maxQueuedMessages;
+        return this;
+    }
+
+    /**
+     * Set the handler called with the topic when its subscription fails or its message handler throws.
+     *
+     * @param errorHandler The handler
+     * @return {@code this}
+     */
+    public synchronized TopicSubscriptionManager setErrorHandler(BiConsumer<TopicId, Throwable> errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    /**
+     * Subscribe to the topic of {@code query}.
+     * <p>
+     * If the query has a checkpoint store, a message is checkpointed once {@code onNext} returns without
+     * throwing, not when it is queued.
+     *
+     * @param query The query describing the topic and range of messages to receive
+     * @param onNext The handler for messages of this topic
+     * @return the handle of the subscription
+     * @throws IllegalStateException if the topic is already subscribed to by this manager
+     */
+    public synchronized SubscriptionHandle subscribe(TopicMessageQuery query, Consumer<TopicMessage> onNext) {
+        var topicId = query.getTopicId();
+
+        if (subscriptions.containsKey(topicId)) {
+            throw new IllegalStateException("already subscribed to topic " + topicId);
+        }
+
+        var subscription = new TopicSubscription(topicId, onNext, new SerialExecutor(executor), maxQueuedMessages);
+        subscriptions.put(topicId, subscription);
+
+        // messages are only queued when delivered, so checkpoint them once their handler returned
+        return query.subscribe(client, subscription, subscription::onNext);
+    }
+
+    /**
+     * Cancel the subscription to a topic.
+     *
+     * @param topicId The topic
+     */
+    public void unsubscribe(TopicId topicId) {
+        @Nullable TopicSubscription subscription;
+
+        synchronized (this) {
+            subscription = subscriptions.remove(topicId);
+        }
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Cancel every subscription of this manager.
+     */
+    public void unsubscribeAll() {
+        ArrayList<TopicSubscription> cancelled;
+
+        synchronized (this) {
+            cancelled = new ArrayList<>(subscriptions.values());
+            subscriptions.clear();
+        }
+
+        for (var subscription : cancelled) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * How far behind consensus the handler of a topic is; the time between the consensus timestamp of the
+     * last message it started handling and when it started handling it.
+     *
+     * @param topicId The topic
+     * @return the lag, or {@code null} if the topic is not subscribed to or no message was handled yet
+     */
+    @Nullable
+    public synchronized Duration getLag(TopicId topicId) {
+        var subscription = subscriptions.get(topicId);
+        return subscription != null ? subscription.getLag() : null;
+    }
+
+    /**
+     * @return the lag of every subscribed topic that handled at least one message
+     * @see #getLag(TopicId)
+     */
+    public synchronized Map<TopicId, Duration> getLags() {
+        var lags = new HashMap<TopicId, Duration>();
+
+        for (var subscription : subscriptions.values()) {
+            var lag = subscription.getLag();
+
+            if (lag != null) {
+                lags.put(subscription.topicId, lag);
+            }
+        }
+
+        return lags;
+    }
+
+    /**
+     * @param topicId The topic
+     * @return the number of messages of the topic received but not yet handled
+     */
+    public synchronized int getQueuedMessageCount(TopicId topicId) {
+        var subscription = subscriptions.get(topicId);
+        return subscription != null ? subscription.serialExecutor.getQueuedCount() : 0;
+    }
+
+    private void reportError(TopicId topicId, Throwable error) {
+        @Nullable BiConsumer<TopicId, Throwable> handler;
+
+        synchronized (this) {
+            handler = errorHandler;
+        }
+
+        if (handler != null) {
+            handler.accept(topicId, error);
+        } else {
+            logger.error("error in subscription to topic {}", topicId, error);
+        }
+    }
+
+    private final class TopicSubscription implements TopicMessageSubscriber {
+        final TopicId topicId;
+
+        final Consumer<TopicMessage> onNext;
+
+        final SerialExecutor serialExecutor;
+
+        final int maxQueuedMessages;
+
+        @Nullable
+        private volatile SubscriptionHandle handle;
+
+        @Nullable
+        private volatile Duration lag;
+
+        TopicSubscription(TopicId topicId, Consumer<TopicMessage> onNext, SerialExecutor serialExecutor, int maxQueuedMessages) {
+            this.topicId = topicId;
+            this.onNext = onNext;
+            this.serialExecutor = serialExecutor;
+            this.maxQueuedMessages = maxQueuedMessages;
+        }
+
+        @Nullable
+        Duration getLag() {
+            return lag;
+        }
+
+        void cancel() {
+            var handle = this.handle;
+
+            if (handle != null) {
+                handle.unsubscribe();
+            }
+        }
+
+        @Override
+        public void onSubscribe(SubscriptionHandle subscription) {
+            handle = subscription;
+            subscription.request(maxQueuedMessages);
+        }
+
+        @Override
+        public void onNext(TopicMessage message) {
+            onNext(message, () -> {
+            });
+        }
+
+        void onNext(TopicMessage message, Runnable checkpoint) {
+            serialExecutor.execute(() -> {
+                lag = Duration.between(message.consensusTimestamp, Instant.now());
+
+                try {
+                    onNext.accept(message);
+                    checkpoint.run();
+                } catch (Throwable error) {
+                    reportError(topicId, error);
+                }
+
+                // room for one more message of this topic
+                var handle = this.handle;
+
+                if (handle != null) {
+                    handle.request(1);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            remove();
+            reportError(topicId, error);
+        }
+
+        @Override
+        public void onComplete() {
+            remove();
+        }
+
+        private void remove() {
+            synchronized (TopicSubscriptionManager.this) {
+                if (subscriptions.get(topicId) == this) {
+                    subscriptions.remove(topicId);
+                }
+            }
+        }
+    }
+}
@@ -201,4 +201,16 @@ public final class TopicUpdateTransaction extends Transaction<TopicUpdateTransac
         bodyBuilder.setConsensusUpdateTopic(builder);
         return true;
     }
+
+    @Override
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        var topicId = getTopicId();
+
+        if (topicId != null) {
+            cache.invalidate(topicId);
+            return true;
+        }
+
+        return false;
+    }
 }
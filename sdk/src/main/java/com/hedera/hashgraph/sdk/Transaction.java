@@ -525,6 +525,21 @@ public abstract class Transaction<T extends Transaction<T>>
             return (T) this;
         }
 
+        if (prepareFreeze(client)) {
+            freezeBodies();
+        }
+
+        // noinspection unchecked
+        return (T) this;
+    }
+
+    /**
+     * Fill in the fee, transaction ID and nodes that were left to the client, and let the derived
+     * class assign its data variant to the transaction body.
+     *
+     * @return {@code false} if the derived class is not ready to be frozen
+     */
+    boolean prepareFreeze(@Nullable Client client) {
         if (client != null && bodyBuilder.getTransactionFee() == 0) {
             bodyBuilder.setTransactionFee(client.maxTransactionFee.toTinybars());
         }
@@ -545,8 +560,7 @@ public abstract class Transaction<T extends Transaction<T>>
         bodyBuilder.setTransactionID(transactionIds.get(0).toProtobuf());
 
         if (!onFreeze(bodyBuilder)) {
-            // noinspection unchecked
-            return (T) this;
+            return false;
         }
 
         if (nodeAccountIds.isEmpty()) {
@@ -558,6 +572,13 @@ public abstract class Transaction<T extends Transaction<T>>
             nodeAccountIds = client.network.getNodeAccountIdsForExecute();
         }
 
+        return true;
+    }
+
+    /**
+     * Build the signed transaction bodies, one for each node, once {@link #prepareFreeze(Client)} succeeded.
+     */
+    void freezeBodies() {
         transactions = new ArrayList<>(nodeAccountIds.size());
         signatures = new ArrayList<>(nodeAccountIds.size());
         signedTransactions = new ArrayList<>(nodeAccountIds.size());
@@ -571,9 +592,6 @@ public abstract class Transaction<T extends Transaction<T>>
                     .toByteString()
                 ));
         }
-
-        // noinspection unchecked
-        return (T) this;
     }
 
     void buildTransactions(int untilIndex) {
@@ -621,6 +639,65 @@ public abstract class Transaction<T extends Transaction<T>>
         return Status.valueOf(transactionResponse.getNodeTransactionPrecheckCode());
     }
 
+    @Override
+    public CompletableFuture<TransactionResponse> executeAsync(Client client) {
+        return super.executeAsync(client).thenApply(response -> {
+            if (invalidateCaches(client)) {
+                // a query answered between now and consensus would cache the state from before this
+                // transaction, so invalidate again once it reached consensus
+                response.transactionId.getReceiptAsync(client).whenComplete((receipt, error) -> invalidateCaches(client));
+            }
+
+            return response;
+        });
+    }
+
+    /**
+     * @return whether this transaction changes state held by a cache of the client
+     */
+    boolean invalidateCaches(Client client) {
+        @Var var invalidated = false;
+        var entityInfoCache = client.entityInfoCache;
+
+        if (entityInfoCache != null) {
+            invalidated = onInvalidateEntityInfo(entityInfoCache);
+        }
+
+        var contractCallCache = client.contractCallCache;
+
+        if (contractCallCache != null) {
+            invalidated = onInvalidateContractCalls(contractCallCache) || invalidated;
+        }
+
+        return invalidated;
+    }
+
+    /**
+     * Called after this transaction has been accepted by a node, and again once it reached consensus.
+     * Transactions that modify or remove an entity should drop that entity from the client's
+     * {@link EntityInfoCache}.
+     *
+     * @return whether an entity was dropped, in which case the receipt of this transaction is fetched to
+     *     drop it again once it reached consensus
+     */
+    boolean onInvalidateEntityInfo(EntityInfoCache cache) {
+        // most transactions do not modify an entity that has a cached info
+        return false;
+    }
+
+    /**
+     * Called after this transaction has been accepted by a node, and again once it reached consensus.
+     * Transactions that may change the state of a contract should drop its results from the client's
+     * {@link ContractCallCache}.
+     *
+     * @return whether results were dropped, in which case the receipt of this transaction is fetched to
+     *     drop them again once it reached consensus
+     */
+    boolean onInvalidateContractCalls(ContractCallCache cache) {
+        // most transactions do not call into a contract
+        return false;
+    }
+
     @Override
     CompletableFuture<Void> onExecuteAsync(Client client) {
         if (!isFrozen()) {
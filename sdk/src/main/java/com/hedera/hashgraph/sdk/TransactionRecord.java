@@ -10,7 +10,6 @@ import org.bouncycastle.util.encoders.Hex;
 import org.threeten.bp.Instant;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -96,20 +95,11 @@ public final class TransactionRecord {
     }
 
     static TransactionRecord fromProtobuf(com.hedera.hashgraph.sdk.proto.TransactionRecord transactionRecord) {
-        var transfers = new ArrayList<Transfer>(transactionRecord.getTransferList().getAccountAmountsCount());
-        for (var accountAmount : transactionRecord.getTransferList().getAccountAmountsList()) {
-            transfers.add(Transfer.fromProtobuf(accountAmount));
-        }
-
-        var tokenTransfers = new HashMap<TokenId, Map<AccountId, Long>>(transactionRecord.getTokenTransferListsCount());
-        for (var tokenTransfersList : transactionRecord.getTokenTransferListsList()) {
-            var accountAmounts = new HashMap<AccountId, Long>();
-            for (var accountAmount : tokenTransfersList.getTransfersList()) {
-                accountAmounts.put(AccountId.fromProtobuf(accountAmount.getAccountID()), accountAmount.getAmount());
-            }
+        // transfers are decoded on first access as most consumers of a record only look at a few fields
+        var transfers = new LazyList<>(transactionRecord.getTransferList().getAccountAmountsList(), Transfer::fromProtobuf);
 
-            tokenTransfers.put(TokenId.fromProtobuf(tokenTransfersList.getToken()), accountAmounts);
-        }
+        var tokenTransferLists = transactionRecord.getTokenTransferListsList();
+        var tokenTransfers = new LazyMap<TokenId, Map<AccountId, Long>>(() -> decodeTokenTransfers(tokenTransferLists));
 
         // HACK: This is a bit bad, any takers to clean this up
         var contractFunctionResult = transactionRecord.hasContractCallResult() ?
@@ -131,6 +121,21 @@ public final class TransactionRecord {
         );
     }
 
+    private static Map<TokenId, Map<AccountId, Long>> decodeTokenTransfers(List<TokenTransferList> tokenTransferLists) {
+        var tokenTransfers = new HashMap<TokenId, Map<AccountId, Long>>(tokenTransferLists.size());
+
+        for (var tokenTransfersList : tokenTransferLists) {
+            var accountAmounts = new HashMap<AccountId, Long>();
+            for (var accountAmount : tokenTransfersList.getTransfersList()) {
+                accountAmounts.put(AccountId.fromProtobuf(accountAmount.getAccountID()), accountAmount.getAmount());
+            }
+
+            tokenTransfers.put(TokenId.fromProtobuf(tokenTransfersList.getToken()), accountAmounts);
+        }
+
+        return tokenTransfers;
+    }
+
     public static TransactionRecord fromBytes(byte[] bytes) throws InvalidProtocolBufferException {
         return fromProtobuf(com.hedera.hashgraph.sdk.proto.TransactionRecord.parseFrom(bytes).toBuilder().build());
     }
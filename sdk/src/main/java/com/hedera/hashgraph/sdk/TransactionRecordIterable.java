@@ -0,0 +1,36 @@
+package com.hedera.hashgraph.sdk;
+
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The {@link TransactionRecord}s of a query response, decoded one at a time as they are iterated.
+ * <p>
+ * A decoded record is not kept: once the caller drops it, it can be collected, so only the protobuf
+ * records of the response stay in memory however many records are iterated over. Each iteration decodes
+ * the records again.
+ */
+final class TransactionRecordIterable implements Iterable<TransactionRecord> {
+    private final List<com.hedera.hashgraph.sdk.proto.TransactionRecord> records;
+
+    TransactionRecordIterable(List<com.hedera.hashgraph.sdk.proto.TransactionRecord> records) {
+        this.records = records;
+    }
+
+    @Override
+    public Iterator<TransactionRecord> iterator() {
+        var iterator = records.iterator();
+
+        return new Iterator<TransactionRecord>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public TransactionRecord next() {
+                return TransactionRecord.fromProtobuf(iterator.next());
+            }
+        };
+    }
+}
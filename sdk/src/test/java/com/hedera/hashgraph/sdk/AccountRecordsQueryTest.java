@@ -1,9 +1,20 @@
 package com.hedera.hashgraph.sdk;
 
+import com.hedera.hashgraph.sdk.proto.CryptoGetAccountRecordsResponse;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import io.github.jsonSnapshot.SnapshotMatcher;
 import org.junit.AfterClass;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 public class AccountRecordsQueryTest {
     @BeforeAll
@@ -24,4 +35,57 @@ public class AccountRecordsQueryTest {
             .toString()
         ).toMatchSnapshot();
     }
+
+    @Test
+    @DisplayName("records are decoded in order as they are iterated, and not kept")
+    void iteratesRecords() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var accountIds = Collections.synchronizedList(new ArrayList<AccountId>());
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            accountIds.add(AccountId.fromProtobuf(
+                ((com.hedera.hashgraph.sdk.proto.Query) request).getCryptoGetAccountRecords().getAccountID()));
+
+            return Response.newBuilder()
+                .setCryptoGetAccountRecords(CryptoGetAccountRecordsResponse.newBuilder()
+                    .setHeader(ResponseHeader.newBuilder())
+                    .addRecords(record("first"))
+                    .addRecords(record("second")))
+                .build();
+        })) {
+            var query = new AccountRecordsQuery()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setAccountId(AccountId.fromString("0.0.5005"))
+                .setQueryPayment(Hbar.fromTinybars(100));
+
+            var records = query.executeIterable(client);
+            var memos = new ArrayList<String>();
+
+            for (var record : records) {
+                memos.add(record.transactionMemo);
+            }
+
+            assertEquals(2, memos.size());
+            assertEquals("first", memos.get(0));
+            assertEquals("second", memos.get(1));
+            assertNotSame(records.iterator().next(), records.iterator().next());
+
+            // executing it as a list still decodes every record into a list the caller can modify
+            var list = query.execute(client);
+            list.remove(0);
+
+            assertEquals(1, list.size());
+            assertEquals("second", list.get(0).transactionMemo);
+            assertEquals(Collections.nCopies(2, AccountId.fromString("0.0.5005")), accountIds);
+        }
+    }
+
+    private static com.hedera.hashgraph.sdk.proto.TransactionRecord record(String memo) {
+        return com.hedera.hashgraph.sdk.proto.TransactionRecord.newBuilder()
+            .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder().build())
+            .setConsensusTimestamp(InstantConverter.toProtobuf(Instant.ofEpochSecond(1554158542)))
+            .setTransactionID(new TransactionId(AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542)).toProtobuf())
+            .setMemo(memo)
+            .build();
+    }
 }
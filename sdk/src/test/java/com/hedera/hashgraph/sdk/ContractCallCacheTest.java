@@ -0,0 +1,124 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import java8.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ContractCallCacheTest {
+    private static final ContractFunctionResult result = new ContractFunctionResult(
+        com.hedera.hashgraph.sdk.proto.ContractFunctionResult.newBuilder()
+            .setContractID(new ContractId(5).toProtobuf())
+            .setGasUsed(100)
+            .build());
+
+    private static ContractCallCache.CallKey key(long contract, String function) {
+        return key(contract, function, 100, null);
+    }
+
+    private static ContractCallCache.CallKey key(long contract, String function, long gas, @Nullable AccountId senderId) {
+        return new ContractCallCache.CallKey(
+            new ContractId(contract),
+            new ContractFunctionParameters().addUint32(1).toBytes(function),
+            gas,
+            0,
+            senderId);
+    }
+
+    @Test
+    @DisplayName("calls are keyed by contract, selector, parameters, gas and sender")
+    void keysByCall() {
+        var cache = new ContractCallCache();
+
+        cache.calls.put(key(5, "get"), result);
+
+        assertSame(result, cache.calls.get(key(5, "get")));
+        assertNull(cache.calls.get(key(5, "other")));
+        assertNull(cache.calls.get(key(6, "get")));
+        assertNull(cache.calls.get(new ContractCallCache.CallKey(new ContractId(5), ByteString.EMPTY, 100, 0, null)));
+        assertNull(cache.calls.get(key(5, "get", 200, null)));
+        assertNull(cache.calls.get(key(5, "get", 100, new AccountId(1001))));
+    }
+
+    @Test
+    @DisplayName("each caller gets its own copy of a cached result")
+    void copiesResults() {
+        var copy = result.copy();
+
+        assertNotSame(result, copy);
+        assertNotSame(result.logs, copy.logs);
+        assertEquals(result.gasUsed, copy.gasUsed);
+    }
+
+    @Test
+    @DisplayName("executing a contract invalidates only that contract's results")
+    void invalidatesOnExecute() {
+        var cache = new ContractCallCache();
+
+        cache.calls.put(key(5, "get"), result);
+        cache.calls.put(key(5, "other"), result);
+        cache.calls.put(key(6, "get"), result);
+
+        new ContractExecuteTransaction()
+            .setContractId(new ContractId(5))
+            .onInvalidateContractCalls(cache);
+
+        assertEquals(1, cache.calls.size());
+        assertSame(result, cache.calls.get(key(6, "get")));
+    }
+
+    @Test
+    @DisplayName("executing a contract invalidates its results again once it reached consensus")
+    void invalidatesOnReceipt() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var consensus = new CompletableFuture<Void>();
+        var receiptQueried = new CompletableFuture<Void>();
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(CryptoServiceGrpc.getGetTransactionReceiptsMethod().getFullMethodName())) {
+                receiptQueried.complete(null);
+                consensus.join();
+
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            return MockNetwork.precheck(ResponseCodeEnum.OK);
+        })) {
+            var cache = new ContractCallCache();
+            client.setContractCallCache(cache);
+            cache.calls.put(key(5, "get"), result);
+
+            new ContractExecuteTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setContractId(new ContractId(5))
+                .setGas(100)
+                .executeAsync(client)
+                .join();
+
+            assertNull(cache.calls.get(key(5, "get")));
+
+            // a call answered before consensus caches the result from before the execution
+            receiptQueried.join();
+            cache.calls.put(key(5, "get"), result);
+            consensus.complete(null);
+
+            var deadline = System.currentTimeMillis() + 5000;
+
+            while (cache.calls.size() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, cache.calls.size());
+        }
+    }
+}
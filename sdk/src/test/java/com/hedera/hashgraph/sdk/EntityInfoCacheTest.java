@@ -0,0 +1,199 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import java8.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EntityInfoCacheTest {
+    private static final FileInfo fileInfo = FileInfo.fromProtobuf(FileGetInfoResponse.FileInfo.newBuilder()
+        .setFileID(new FileId(1).toProtobuf())
+        .setSize(2)
+        .setExpirationTime(InstantConverter.toProtobuf(Instant.ofEpochMilli(3)))
+        .build());
+
+    @Test
+    @DisplayName("entries are evicted in least-recently-used order")
+    void evictsLeastRecentlyUsed() {
+        var cache = new BoundedCache<String, String>(2, Duration.ofMinutes(1));
+
+        cache.put("a", "1");
+        cache.put("b", "2");
+
+        // touch "a" so that "b" becomes the least recently used
+        assertEquals("1", cache.get("a"));
+
+        cache.put("c", "3");
+
+        assertNull(cache.get("b"));
+        assertEquals("1", cache.get("a"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("entries expire after their time-to-live")
+    void expiresEntries() throws InterruptedException {
+        var cache = new BoundedCache<String, String>(10, Duration.ofMillis(1));
+
+        cache.put("a", "1");
+        Thread.sleep(10);
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("getOrLoadAsync only invokes the loader on a miss")
+    void loadsOnMiss() {
+        var cache = new EntityInfoCache();
+        var loads = new int[]{0};
+
+        for (var i = 0; i < 3; i++) {
+            var info = cache.files.getOrLoadAsync(new FileId(1), () -> {
+                loads[0]++;
+                return CompletableFuture.completedFuture(fileInfo);
+            }).join();
+
+            assertSame(fileInfo, info);
+        }
+
+        assertEquals(1, loads[0]);
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("update and delete transactions invalidate the entity they touch")
+    void invalidatesOnUpdate() {
+        var cache = new EntityInfoCache();
+
+        cache.files.put(new FileId(1), fileInfo);
+        cache.files.put(new FileId(2), fileInfo);
+
+        new FileUpdateTransaction()
+            .setFileId(new FileId(1))
+            .onInvalidateEntityInfo(cache);
+
+        assertNull(cache.files.get(new FileId(1)));
+        assertSame(fileInfo, cache.files.get(new FileId(2)));
+
+        new FileDeleteTransaction()
+            .setFileId(new FileId(2))
+            .onInvalidateEntityInfo(cache);
+
+        assertEquals(0, cache.files.size());
+    }
+
+    @Test
+    @DisplayName("an update invalidates the entity again once it reached consensus")
+    void invalidatesOnReceipt() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var consensus = new CompletableFuture<Void>();
+        var receiptQueried = new CompletableFuture<Void>();
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(CryptoServiceGrpc.getGetTransactionReceiptsMethod().getFullMethodName())) {
+                receiptQueried.complete(null);
+                consensus.join();
+
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            return MockNetwork.precheck(ResponseCodeEnum.OK);
+        })) {
+            var cache = new EntityInfoCache();
+            client.setEntityInfoCache(cache);
+            cache.files.put(new FileId(1), fileInfo);
+
+            new FileUpdateTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setFileId(new FileId(1))
+                .executeAsync(client)
+                .join();
+
+            assertNull(cache.files.get(new FileId(1)));
+
+            // a query answered before consensus caches the state from before the update
+            receiptQueried.join();
+            cache.files.put(new FileId(1), fileInfo);
+            consensus.complete(null);
+
+            var deadline = System.currentTimeMillis() + 5000;
+
+            while (cache.files.size() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, cache.files.size());
+        }
+    }
+
+    @Test
+    @DisplayName("token transactions invalidate the token or account they change, and others follow no receipt")
+    void invalidatesOnTokenChanges() throws Exception {
+        var cache = new EntityInfoCache();
+
+        assertTrue(new TokenMintTransaction().setTokenId(new TokenId(1)).onInvalidateEntityInfo(cache));
+        assertTrue(new TokenFreezeTransaction().setAccountId(new AccountId(2)).onInvalidateEntityInfo(cache));
+        assertFalse(new TransferTransaction().onInvalidateEntityInfo(cache));
+
+        var nodeId = AccountId.fromString("0.0.3");
+        var receiptQueries = new AtomicInteger();
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(CryptoServiceGrpc.getGetTransactionReceiptsMethod().getFullMethodName())) {
+                receiptQueries.incrementAndGet();
+
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            return MockNetwork.precheck(ResponseCodeEnum.OK);
+        })) {
+            client.setEntityInfoCache(cache);
+
+            new TransferTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .executeAsync(client)
+                .join();
+
+            new TokenMintTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setTokenId(new TokenId(1))
+                .executeAsync(client)
+                .join();
+
+            var deadline = System.currentTimeMillis() + 5000;
+
+            while (receiptQueries.get() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // only the mint followed its receipt
+            Thread.sleep(100);
+            assertEquals(1, receiptQueries.get());
+        }
+    }
+
+    @Test
+    @DisplayName("a negative policy is rejected")
+    void rejectsNegativePolicy() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            new EntityInfoCache().setAccountInfoPolicy(-1, Duration.ofSeconds(1));
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileAppendProgressTest {
+    private static final AccountId payerId = AccountId.fromString("0.0.5006");
+
+    private static TransactionId chunkId(int chunk) {
+        return new TransactionId(payerId, Instant.ofEpochSecond(1554158542, chunk));
+    }
+
+    @Test
+    @DisplayName("confirmed bytes only cover chunks without a gap before them")
+    void confirmsPrefix() {
+        var progress = new FileAppendProgress(FileId.fromString("0.0.6006"), 10, 10_000);
+
+        progress.chunkSubmitting(chunkId(0), 0, 4096);
+        progress.chunkSubmitting(chunkId(1), 4096, 4096);
+        progress.chunkSubmitting(chunkId(2), 8192, 1808);
+
+        progress.chunkConfirmed(chunkId(1));
+
+        assertEquals(0, progress.getConfirmedBytes());
+        assertEquals(Arrays.asList(chunkId(0), chunkId(2)), progress.getPendingTransactionIds());
+
+        progress.chunkConfirmed(chunkId(0));
+
+        assertEquals(8192, progress.getConfirmedBytes());
+        assertEquals(Collections.singletonList(chunkId(2)), progress.getPendingTransactionIds());
+
+        progress.chunkConfirmed(chunkId(2));
+
+        assertTrue(progress.isComplete());
+    }
+
+    @Test
+    @DisplayName("progress survives a round trip through bytes")
+    void roundTrips() {
+        var progress = new FileAppendProgress(FileId.fromString("0.0.6006"), 10, 10_000);
+
+        progress.chunkSubmitting(chunkId(0), 0, 4096);
+        progress.chunkSubmitting(chunkId(1), 4096, 4096);
+        progress.chunkConfirmed(chunkId(0));
+
+        var restored = FileAppendProgress.fromBytes(progress.toBytes());
+
+        assertEquals(progress.getFileId(), restored.getFileId());
+        assertEquals(10, restored.getFileSizeBefore());
+        assertEquals(10_000, restored.getContentsSize());
+        assertEquals(4096, restored.getConfirmedBytes());
+        assertEquals(Collections.singletonList(chunkId(1)), restored.getPendingTransactionIds());
+    }
+
+    @Test
+    @DisplayName("truncated progress is rejected")
+    void rejectsTruncated() {
+        var bytes = new FileAppendProgress(FileId.fromString("0.0.6006"), 10, 10_000).toBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> FileAppendProgress.fromBytes(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+}
@@ -1,12 +1,31 @@
 package com.hedera.hashgraph.sdk;
 
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileGetInfoResponse;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.Response;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
 import io.github.jsonSnapshot.SnapshotMatcher;
 import org.junit.AfterClass;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.threeten.bp.Instant;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class FileAppendTransactionTest {
     private static final PrivateKey unusedPrivateKey = PrivateKey.fromString(
@@ -37,4 +56,348 @@ public class FileAppendTransactionTest {
             .toString()
         ).toMatchSnapshot();
     }
+
+    @Test
+    void shouldNotFreezeStreamedContents() {
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(Collections.singletonList(AccountId.fromString("0.0.5005")))
+            .setTransactionId(new TransactionId(AccountId.fromString("0.0.5006"), validStart))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(new ByteArrayInputStream(new byte[]{1, 2, 3, 4}));
+
+        assertThrows(IllegalStateException.class, transaction::freeze);
+    }
+
+    @Test
+    void shouldRejectEmptyChunkWindow() {
+        var transaction = new FileAppendTransaction();
+
+        assertEquals(1, transaction.getMaxChunksInFlight());
+        assertThrows(IllegalArgumentException.class, () -> transaction.setMaxChunksInFlight(0));
+    }
+
+    @Test
+    void shouldRejectNoChunkAttempts() {
+        var transaction = new FileAppendTransaction();
+
+        assertEquals(3, transaction.getMaxChunkAttempts());
+        assertTrue(transaction.getChunkStatuses().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> transaction.setMaxChunkAttempts(0));
+    }
+
+    @Test
+    void shouldFitAutoSizedChunksWithinTransactionLimit() {
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(Collections.singletonList(AccountId.fromString("0.0.5005")))
+            .setTransactionId(new TransactionId(AccountId.fromString("0.0.5006"), validStart))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(new byte[10_000])
+            .setAutoChunkSize(1)
+            .freeze()
+            .sign(unusedPrivateKey);
+
+        assertTrue(transaction.getChunkSize() > ChunkedTransaction.CHUNK_SIZE);
+        assertEquals(2, transaction.transactionIds.size());
+
+        transaction.buildTransactions(transaction.signedTransactions.size());
+
+        for (var chunk : transaction.transactions) {
+            assertTrue(chunk.getSerializedSize() <= ChunkedTransaction.TRANSACTION_SIZE_LIMIT);
+        }
+    }
+
+    @Test
+    void shouldRejectChunksTooLargeForTransaction() {
+        assertThrows(IllegalArgumentException.class, () -> new FileAppendTransaction()
+            .setChunkSize(ChunkedTransaction.TRANSACTION_SIZE_LIMIT));
+
+        // fits next to a signature, but not next to the rest of the body as well
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(Collections.singletonList(AccountId.fromString("0.0.5005")))
+            .setTransactionId(new TransactionId(AccountId.fromString("0.0.5006"), validStart))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(new byte[10_000])
+            .setChunkSize(ChunkedTransaction.MAX_CHUNK_SIZE);
+
+        assertThrows(IllegalArgumentException.class, transaction::freeze);
+    }
+
+    @Test
+    void shouldFreezeChunksLazilyLikeUpFront() {
+        var nodeId = AccountId.fromString("0.0.5005");
+        var payerId = AccountId.fromString("0.0.5006");
+        var contents = new byte[10_000];
+
+        var frozen = new FileAppendTransaction()
+            .setNodeAccountIds(Collections.singletonList(nodeId))
+            .setTransactionId(new TransactionId(payerId, validStart))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(contents)
+            .freeze()
+            .sign(unusedPrivateKey);
+
+        frozen.buildTransactions(frozen.signedTransactions.size());
+
+        var lazy = new FileAppendTransaction()
+            .setNodeAccountIds(Collections.singletonList(nodeId))
+            .setTransactionId(new TransactionId(payerId, validStart))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(contents)
+            .setLazyFreeze(true);
+
+        lazy.prepareFreeze(null);
+        lazy.prepareChunks(lazy.transactionIds.get(0).toProtobuf());
+
+        var operator = new Client.Operator(payerId, unusedPrivateKey.getPublicKey(), unusedPrivateKey::sign);
+
+        for (var chunk = 0; chunk < frozen.transactions.size(); chunk++) {
+            assertEquals(frozen.transactions.get(chunk), lazy.makeChunkRequest(chunk, nodeId, operator));
+        }
+
+        assertFalse(lazy.isFrozen());
+    }
+
+    @Test
+    void shouldHashEveryChunkForEveryNode() {
+        var nodeIds = Arrays.asList(AccountId.fromString("0.0.5005"), AccountId.fromString("0.0.5006"));
+        var transaction = new FileAppendTransaction()
+            .setNodeAccountIds(nodeIds)
+            .setTransactionId(new TransactionId(AccountId.fromString("0.0.5006"), validStart))
+            .setFileId(FileId.fromString("0.0.6006"))
+            .setContents(new byte[10_000])
+            .freeze()
+            .sign(unusedPrivateKey);
+
+        var hashes = transaction.getAllTransactionHashes();
+        var hashesPerNode = transaction.getAllTransactionHashesPerNode();
+
+        assertEquals(3, hashes.getChunkCount());
+        assertEquals(3, hashesPerNode.size());
+
+        for (var chunk = 0; chunk < 3; chunk++) {
+            for (var node = 0; node < nodeIds.size(); node++) {
+                var expected = Transaction.hash(transaction.transactions.get(chunk * nodeIds.size() + node)
+                    .getSignedTransactionBytes()
+                    .toByteArray());
+
+                assertArrayEquals(expected, hashes.get(chunk, node));
+                assertArrayEquals(expected, hashesPerNode.get(chunk).get(nodeIds.get(node)));
+            }
+        }
+    }
+
+    @Test
+    void shouldResumeAfterConfirmedChunk() throws Exception {
+        var appended = resumeUpload((node, method, request) -> MockNetwork.receipt(ResponseCodeEnum.SUCCESS));
+
+        assertEquals(Arrays.asList(slice(40, 80), slice(80, 100)), appended);
+    }
+
+    @Test
+    void shouldResumeAtFailedChunk() throws Exception {
+        // a failed receipt is reported as a precheck failure of the receipt query
+        var appended = resumeUpload((node, method, request) -> MockNetwork.receipt(ResponseCodeEnum.INVALID_SIGNATURE));
+
+        assertEquals(Arrays.asList(slice(0, 40), slice(40, 80), slice(80, 100)), appended);
+    }
+
+    @Test
+    void shouldResumeFromFileSizeWithoutReceipt() throws Exception {
+        var fileInfoQueries = new AtomicInteger();
+
+        var appended = resumeUpload((node, method, request) -> {
+            if (method.equals(FileServiceGrpc.getGetFileInfoMethod().getFullMethodName())) {
+                fileInfoQueries.incrementAndGet();
+
+                // 10 bytes before the upload and the 40 of the pending chunk
+                return Response.newBuilder()
+                    .setFileGetInfo(FileGetInfoResponse.newBuilder()
+                        .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                        .setFileInfo(FileGetInfoResponse.FileInfo.newBuilder()
+                            .setFileID(FileId.fromString("0.0.6006").toProtobuf())
+                            .setSize(50)
+                            .setExpirationTime(InstantConverter.toProtobuf(validStart))))
+                    .build();
+            }
+
+            throw io.grpc.Status.INTERNAL.asRuntimeException();
+        });
+
+        assertTrue(fileInfoQueries.get() > 0);
+        assertEquals(Arrays.asList(slice(40, 80), slice(80, 100)), appended);
+    }
+
+    @Test
+    void shouldRefuseToAppendAgainPastAppliedChunks() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var appendIds = Collections.synchronizedList(new ArrayList<TransactionId>());
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(FileServiceGrpc.getAppendContentMethod().getFullMethodName())) {
+                appendIds.add(TransactionId.fromProtobuf(MockNetwork.body(request).getTransactionID()));
+
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+
+            if (!MockNetwork.receiptTransactionId(request).equals(appendIds.get(0))) {
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            // the first chunk fails once the chunks after it were submitted
+            return MockNetwork.receipt(appendIds.size() < 3 ? ResponseCodeEnum.RECEIPT_NOT_FOUND : ResponseCodeEnum.INVALID_SIGNATURE);
+        })) {
+            var transaction = new FileAppendTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setFileId(FileId.fromString("0.0.6006"))
+                .setContents(resumedContents())
+                .setChunkSize(40)
+                .setMaxChunksInFlight(3);
+
+            var error = assertThrows(PrecheckStatusException.class, () -> transaction.executeAll(client));
+
+            assertEquals(Status.INVALID_SIGNATURE, error.status);
+            assertEquals(
+                Arrays.asList(ChunkStatus.FAILED, ChunkStatus.SUCCEEDED, ChunkStatus.SUCCEEDED),
+                transaction.getChunkStatuses());
+
+            // the first chunk can no longer be appended before the others
+            assertThrows(IllegalStateException.class, () -> transaction.executeAllAsync(client));
+            assertEquals(3, appendIds.size());
+        }
+    }
+
+    @Test
+    void shouldLookUpChunksOfUnknownOutcomeBeforeSubmittingAgain() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var appendIds = Collections.synchronizedList(new ArrayList<TransactionId>());
+        var firstReceipts = new AtomicInteger();
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(FileServiceGrpc.getAppendContentMethod().getFullMethodName())) {
+                appendIds.add(TransactionId.fromProtobuf(MockNetwork.body(request).getTransactionID()));
+
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+
+            // the receipt of the first chunk can not be fetched at first, though the chunk was appended
+            if (
+                MockNetwork.receiptTransactionId(request).equals(appendIds.get(0)) &&
+                    firstReceipts.incrementAndGet() == 1
+            ) {
+                throw io.grpc.Status.INTERNAL.asRuntimeException();
+            }
+
+            return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+        })) {
+            var transaction = new FileAppendTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setFileId(FileId.fromString("0.0.6006"))
+                .setContents(Arrays.copyOf(resumedContents(), 80))
+                .setChunkSize(40)
+                .setMaxChunksInFlight(1);
+
+            assertThrows(ExecutionException.class, () -> transaction.executeAllAsync(client).get());
+            assertEquals(Arrays.asList(ChunkStatus.UNKNOWN, ChunkStatus.NOT_SUBMITTED), transaction.getChunkStatuses());
+
+            transaction.executeAllAsync(client).get();
+
+            // the first chunk is not appended a second time
+            assertEquals(Arrays.asList(ChunkStatus.SUCCEEDED, ChunkStatus.SUCCEEDED), transaction.getChunkStatuses());
+            assertEquals(2, appendIds.size());
+            assertEquals(2, firstReceipts.get());
+        }
+    }
+
+    @Test
+    void shouldRefuseToResumePastChunkAppendedAfterFailedChunk() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var failedId = new TransactionId(MockNetwork.operatorId, validStart);
+        var appendedId = new TransactionId(MockNetwork.operatorId, validStart.plusNanos(1));
+        var progress = new FileAppendProgress(FileId.fromString("0.0.6006"), 10, 100);
+        var appendCount = new AtomicInteger();
+
+        // both chunks were in flight when the upload was interrupted, and only the second was appended
+        progress.chunkSubmitting(failedId, 0, 40);
+        progress.chunkSubmitting(appendedId, 40, 40);
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(FileServiceGrpc.getAppendContentMethod().getFullMethodName())) {
+                appendCount.incrementAndGet();
+
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+
+            return MockNetwork.receiptTransactionId(request).equals(failedId)
+                ? MockNetwork.receipt(ResponseCodeEnum.INVALID_SIGNATURE)
+                : MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+        })) {
+            var transaction = new FileAppendTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setContents(resumedContents())
+                .setChunkSize(40)
+                .setResumeFrom(progress);
+
+            var error = assertThrows(ExecutionException.class, () -> transaction.executeAllAsync(client).get());
+
+            assertTrue(error.getCause() instanceof IllegalStateException);
+            assertEquals(0, appendCount.get());
+        }
+    }
+
+    private static byte[] resumedContents() {
+        var contents = new byte[100];
+
+        for (var i = 0; i < contents.length; i++) {
+            contents[i] = (byte) i;
+        }
+
+        return contents;
+    }
+
+    private static ByteString slice(int from, int to) {
+        return ByteString.copyFrom(resumedContents(), from, to - from);
+    }
+
+    /**
+     * Resume an upload of 100 bytes in chunks of 40 to a file of 10 bytes whose first chunk was pending,
+     * with {@code pending} answering for that chunk, and return the chunks appended in the order they were.
+     */
+    private List<ByteString> resumeUpload(MockNetwork.Responder pending) throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var pendingId = new TransactionId(MockNetwork.operatorId, validStart);
+        var progress = new FileAppendProgress(FileId.fromString("0.0.6006"), 10, 100);
+        var appended = Collections.synchronizedList(new ArrayList<ByteString>());
+
+        progress.chunkSubmitting(pendingId, 0, 40);
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (method.equals(FileServiceGrpc.getAppendContentMethod().getFullMethodName())) {
+                appended.add(MockNetwork.body(request).getFileAppend().getContents());
+
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+
+            if (
+                method.equals(CryptoServiceGrpc.getGetTransactionReceiptsMethod().getFullMethodName()) &&
+                    !MockNetwork.receiptTransactionId(request).equals(pendingId)
+            ) {
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            return pending.respond(node, method, request);
+        })) {
+            var transaction = new FileAppendTransaction()
+                .setNodeAccountIds(Collections.singletonList(nodeId))
+                .setContents(resumedContents())
+                .setChunkSize(40)
+                .setResumeFrom(progress);
+
+            transaction.executeAllAsync(client).get();
+
+            // the part appended before is skipped without cutting it from the contents
+            assertEquals(ByteString.copyFrom(resumedContents()), transaction.getContents());
+        }
+
+        return appended;
+    }
 }
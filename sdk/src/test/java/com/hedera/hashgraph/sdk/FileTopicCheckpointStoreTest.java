@@ -0,0 +1,126 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileTopicCheckpointStoreTest {
+    private static final Instant consensusTimestamp = Instant.ofEpochSecond(1554158542, 123456789);
+
+    @TempDir
+    File directory;
+
+    @Test
+    @DisplayName("checkpoints survive reopening the store")
+    void persistsCheckpoints() throws IOException {
+        var file = new File(directory, "checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            store.save(new TopicId(5), new TopicCheckpoint(1, consensusTimestamp));
+            store.save(new TopicId(5), new TopicCheckpoint(2, consensusTimestamp.plusNanos(1)));
+            store.save(new TopicId(6), new TopicCheckpoint(7, consensusTimestamp));
+        }
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            assertEquals(new TopicCheckpoint(2, consensusTimestamp.plusNanos(1)), store.load(new TopicId(5)));
+            assertEquals(new TopicCheckpoint(7, consensusTimestamp), store.load(new TopicId(6)));
+            assertNull(store.load(new TopicId(7)));
+        }
+
+        // reopening compacted the file to one line per topic
+        assertEquals(2, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    @DisplayName("a line torn by a crash is ignored")
+    void ignoresTornLine() throws IOException {
+        var file = new File(directory, "checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            store.save(new TopicId(5), new TopicCheckpoint(1, consensusTimestamp));
+        }
+
+        try (var output = new FileOutputStream(file, true)) {
+            output.write("0.0.5 2 15541".getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            assertEquals(new TopicCheckpoint(1, consensusTimestamp), store.load(new TopicId(5)));
+        }
+    }
+
+    @Test
+    @DisplayName("the checkpoints are recovered from the compacted file when a compaction deleted the file")
+    void recoversCompactedFile() throws IOException {
+        var file = new File(directory, "checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            store.save(new TopicId(5), new TopicCheckpoint(1, consensusTimestamp));
+        }
+
+        // as left by a crash between deleting the file and renaming the compacted file over it
+        assertTrue(file.renameTo(new File(directory, "checkpoints.tmp")));
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            assertEquals(new TopicCheckpoint(1, consensusTimestamp), store.load(new TopicId(5)));
+        }
+    }
+
+    @Test
+    @DisplayName("a failed compaction does not fail the saves after it")
+    void savesAfterFailedCompaction() throws IOException {
+        var file = new File(directory, "checkpoints");
+        var compacted = new File(directory, "checkpoints.tmp");
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            // the compacted file cannot be written while a directory is in its place
+            assertTrue(compacted.mkdir());
+
+            assertThrows(RuntimeException.class, () -> {
+                for (var i = 0; i < 100; i++) {
+                    store.save(new TopicId(5), new TopicCheckpoint(i, consensusTimestamp));
+                }
+            });
+
+            assertTrue(compacted.delete());
+
+            store.save(new TopicId(5), new TopicCheckpoint(100, consensusTimestamp));
+        }
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            assertEquals(new TopicCheckpoint(100, consensusTimestamp), store.load(new TopicId(5)));
+        }
+    }
+
+    @Test
+    @DisplayName("a checkpoint is written out once it waited the sync delay, without another save")
+    void syncsOnTimer() throws Exception {
+        var file = new File(directory, "checkpoints");
+
+        try (var store = new FileTopicCheckpointStore(file)) {
+            store.setSyncPolicy(100, Duration.ofMillis(50));
+            store.save(new TopicId(5), new TopicCheckpoint(1, consensusTimestamp));
+
+            var deadline = System.currentTimeMillis() + 5000;
+
+            while (Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(1, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+        }
+    }
+}
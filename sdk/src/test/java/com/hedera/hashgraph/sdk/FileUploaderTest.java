@@ -0,0 +1,106 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.CryptoServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.FileServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileUploaderTest {
+    @Test
+    @DisplayName("transactions past the in-flight limit wait for a permit")
+    void limitsInFlight() throws Exception {
+        try (var client = Client.forTestnet()) {
+            var uploader = new FileUploader(client).setMaxInFlight(2);
+
+            var first = uploader.acquire();
+            var second = uploader.acquire();
+            var third = uploader.acquire();
+
+            assertTrue(first.isDone());
+            assertTrue(second.isDone());
+            assertFalse(third.isDone());
+            assertEquals(2, uploader.getTransactionsInFlight());
+
+            uploader.release();
+
+            assertTrue(third.isDone());
+            assertEquals(2, uploader.getTransactionsInFlight());
+
+            uploader.release();
+            uploader.release();
+
+            assertEquals(0, uploader.getTransactionsInFlight());
+        }
+    }
+
+    @Test
+    @DisplayName("the in-flight limit must be positive and chunks must fit within a transaction")
+    void rejectsInvalidLimits() throws Exception {
+        try (var client = Client.forTestnet()) {
+            var uploader = new FileUploader(client);
+
+            assertThrows(IllegalArgumentException.class, () -> uploader.setMaxInFlight(0));
+            assertThrows(IllegalArgumentException.class, () -> uploader.setChunkSize(ChunkedTransaction.TRANSACTION_SIZE_LIMIT));
+        }
+    }
+
+    @Test
+    @DisplayName("each file is created with its first chunk and the rest is appended in order")
+    void uploadsInOrder() throws Exception {
+        var nodeId = AccountId.fromString("0.0.3");
+        var contents = Arrays.asList(ByteString.copyFrom(new byte[100]), ByteString.copyFrom(new byte[30]));
+        var createdFiles = new HashMap<TransactionId, FileId>();
+        var chunksByFile = new HashMap<FileId, List<Integer>>();
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            synchronized (chunksByFile) {
+                if (method.equals(FileServiceGrpc.getCreateFileMethod().getFullMethodName())) {
+                    var body = MockNetwork.body(request);
+                    var fileId = new FileId(1000 + createdFiles.size());
+
+                    createdFiles.put(TransactionId.fromProtobuf(body.getTransactionID()), fileId);
+                    chunksByFile.put(fileId, new ArrayList<>(Collections.singletonList(body.getFileCreate().getContents().size())));
+                } else if (method.equals(FileServiceGrpc.getAppendContentMethod().getFullMethodName())) {
+                    var body = MockNetwork.body(request).getFileAppend();
+
+                    chunksByFile.get(FileId.fromProtobuf(body.getFileID())).add(body.getContents().size());
+                } else if (method.equals(CryptoServiceGrpc.getGetTransactionReceiptsMethod().getFullMethodName())) {
+                    var fileId = createdFiles.get(MockNetwork.receiptTransactionId(request));
+
+                    return fileId != null ?
+                        MockNetwork.receipt(ResponseCodeEnum.SUCCESS, fileId) :
+                        MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+                }
+
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+        })) {
+            var uploader = new FileUploader(client).setChunkSize(40);
+
+            var fileIds = uploader.uploadAsync(contents).get();
+
+            assertEquals(2, fileIds.size());
+            assertEquals(Arrays.asList(40, 40, 20), chunksByFile.get(fileIds.get(0)));
+            assertEquals(Collections.singletonList(30), chunksByFile.get(fileIds.get(1)));
+
+            assertEquals(130, uploader.getBytesUploaded());
+            assertEquals(4, uploader.getTransactionsCompleted());
+            assertEquals(2, uploader.getFilesUploaded());
+            assertEquals(0, uploader.getFilesReused());
+            assertTrue(uploader.getBytesPerSecond() > 0);
+        }
+    }
+}
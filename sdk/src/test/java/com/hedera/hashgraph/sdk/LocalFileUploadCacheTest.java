@@ -0,0 +1,55 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LocalFileUploadCacheTest {
+    private static final byte[] contentHash = Transaction.hash("contract bytecode".getBytes(StandardCharsets.UTF_8));
+
+    @TempDir
+    File directory;
+
+    @Test
+    @DisplayName("uploaded files survive reopening the cache")
+    void persistsFiles() throws IOException {
+        var file = new File(directory, "uploads");
+
+        try (var cache = new LocalFileUploadCache(file)) {
+            assertNull(cache.get(contentHash));
+
+            cache.put(contentHash, FileId.fromString("0.0.1001"));
+            cache.put(contentHash, FileId.fromString("0.0.1002"));
+        }
+
+        try (var cache = new LocalFileUploadCache(file)) {
+            assertEquals(FileId.fromString("0.0.1002"), cache.get(contentHash));
+        }
+    }
+
+    @Test
+    @DisplayName("a torn line is ignored")
+    void ignoresTornLine() throws IOException {
+        var file = new File(directory, "uploads");
+
+        try (var cache = new LocalFileUploadCache(file)) {
+            cache.put(contentHash, FileId.fromString("0.0.1001"));
+        }
+
+        try (var output = new FileOutputStream(file, true)) {
+            output.write("0badc0".getBytes(StandardCharsets.UTF_8));
+        }
+
+        try (var cache = new LocalFileUploadCache(file)) {
+            assertEquals(FileId.fromString("0.0.1001"), cache.get(contentHash));
+        }
+    }
+}
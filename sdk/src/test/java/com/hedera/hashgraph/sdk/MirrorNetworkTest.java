@@ -0,0 +1,60 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class MirrorNetworkTest {
+    private ExecutorService executor;
+
+    private MirrorNetwork network;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        executor = Executors.newSingleThreadExecutor();
+        network = new MirrorNetwork(executor);
+        network.setNetwork(Arrays.asList("mirror-1:5600", "mirror-2:5600", "mirror-3:5600"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("subscriptions are spread across mirror nodes")
+    void spreadsSubscriptions() {
+        var used = new HashSet<MirrorNode>();
+
+        for (var i = 0; i < 3; i++) {
+            var node = network.getNextMirrorNode();
+            node.subscriptionStarted();
+            used.add(node);
+        }
+
+        assertEquals(3, used.size());
+    }
+
+    @Test
+    @DisplayName("a failing mirror node is avoided")
+    void failsOver() {
+        var failing = network.getNextMirrorNode();
+        failing.recordError();
+
+        assertFalse(failing.isHealthy());
+
+        for (var i = 0; i < 10; i++) {
+            assertNotSame(failing, network.getNextMirrorNode());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.ResponseHeader;
+import com.hedera.hashgraph.sdk.proto.SignedTransaction;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import com.hedera.hashgraph.sdk.proto.TransactionGetReceiptResponse;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.StatusRuntimeException;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A client whose nodes and mirror nodes answer each request with a function instead of over the network.
+ */
+final class MockNetwork {
+    // a thread per call being answered, so a responder may block until other calls were answered
+    private static final ExecutorService responders = Executors.newCachedThreadPool(task -> {
+        var thread = new Thread(task, "mock-network");
+        thread.setDaemon(true);
+
+        return thread;
+    });
+
+    static final AccountId operatorId = AccountId.fromString("0.0.1001");
+
+    static final PrivateKey operatorKey = PrivateKey.fromString(
+        "302e020100300506032b657004220420db484b828e64b2d8f12ce3c0a0e93a0b8cce7af1bb8f39c97732394482538e10");
+
+    private MockNetwork() {
+    }
+
+    interface Responder {
+        /**
+         * @param nodeId The node the request was sent to
+         * @param method The full name of the gRPC method, e.g. {@code proto.FileService/appendContent}
+         * @param request The request
+         * @return the response; throw a {@link StatusRuntimeException} to fail the call instead
+         */
+        Object respond(AccountId nodeId, String method, Object request);
+    }
+
+    interface MirrorResponder {
+        /**
+         * @param address The address of the mirror node the query was sent to
+         * @param query The query
+         * @return the responses streamed before the stream completes; throw a {@link StatusRuntimeException} to
+         *     fail the call instead
+         */
+        List<ConsensusTopicResponse> respond(String address, ConsensusTopicQuery query);
+
+        /**
+         * Called when the client cancels the call for {@code query}.
+         */
+        default void cancelled(String address, ConsensusTopicQuery query) {
+        }
+    }
+
+    static Client client(List<AccountId> nodeIds, Responder responder) {
+        var network = new HashMap<String, AccountId>();
+
+        for (var nodeId : nodeIds) {
+            network.put("mock-" + nodeId.num + ":50211", nodeId);
+        }
+
+        var client = Client.forNetwork(network);
+        client.setOperator(operatorId, operatorKey);
+
+        for (var nodeId : nodeIds) {
+            client.network.networkNodes.get(nodeId).channel = new MockChannel("mock-" + nodeId.num, new CallResponder() {
+                @Override
+                public List<?> respond(String method, Object request) {
+                    return Collections.singletonList(responder.respond(nodeId, method, request));
+                }
+
+                @Override
+                public void cancelled(Object request) {
+                }
+            });
+        }
+
+        return client;
+    }
+
+    static Client mirrorClient(List<String> addresses, MirrorResponder responder) throws InterruptedException {
+        var client = Client.forNetwork(new HashMap<>());
+        client.setMirrorNetwork(addresses);
+
+        for (var mirrorNode : client.mirrorNetwork.network) {
+            mirrorNode.channel = new MockChannel(mirrorNode.address, new CallResponder() {
+                @Override
+                public List<?> respond(String method, Object request) {
+                    return responder.respond(mirrorNode.address, (ConsensusTopicQuery) request);
+                }
+
+                @Override
+                public void cancelled(Object request) {
+                    responder.cancelled(mirrorNode.address, (ConsensusTopicQuery) request);
+                }
+            });
+        }
+
+        return client;
+    }
+
+    static TransactionBody body(Object request) {
+        try {
+            var transaction = (com.hedera.hashgraph.sdk.proto.Transaction) request;
+
+            return TransactionBody.parseFrom(SignedTransaction.parseFrom(transaction.getSignedTransactionBytes()).getBodyBytes());
+        } catch (InvalidProtocolBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    static com.hedera.hashgraph.sdk.proto.TransactionResponse precheck(ResponseCodeEnum status) {
+        return com.hedera.hashgraph.sdk.proto.TransactionResponse.newBuilder()
+            .setNodeTransactionPrecheckCode(status)
+            .build();
+    }
+
+    static com.hedera.hashgraph.sdk.proto.Response receipt(ResponseCodeEnum status) {
+        return com.hedera.hashgraph.sdk.proto.Response.newBuilder()
+            .setTransactionGetReceipt(TransactionGetReceiptResponse.newBuilder()
+                .setHeader(ResponseHeader.newBuilder().setNodeTransactionPrecheckCode(ResponseCodeEnum.OK))
+                .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder().setStatus(status)))
+            .build();
+    }
+
+    static com.hedera.hashgraph.sdk.proto.Response receipt(ResponseCodeEnum status, FileId fileId) {
+        var response = receipt(status).toBuilder();
+
+        response.getTransactionGetReceiptBuilder().getReceiptBuilder().setFileID(fileId.toProtobuf());
+
+        return response.build();
+    }
+
+    static TransactionId receiptTransactionId(Object request) {
+        return TransactionId.fromProtobuf(((com.hedera.hashgraph.sdk.proto.Query) request)
+            .getTransactionGetReceipt()
+            .getTransactionID());
+    }
+
+    private interface CallResponder {
+        List<?> respond(String method, Object request);
+
+        void cancelled(Object request);
+    }
+
+    private static final class MockChannel extends ManagedChannel {
+        private final String authority;
+
+        private final CallResponder responder;
+
+        private boolean shutdown = false;
+
+        MockChannel(String authority, CallResponder responder) {
+            this.authority = authority;
+            this.responder = responder;
+        }
+
+        @Override
+        public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            MethodDescriptor<RequestT, ResponseT> methodDescriptor,
+            CallOptions callOptions
+        ) {
+            return new MockCall<>(methodDescriptor.getFullMethodName());
+        }
+
+        @Override
+        public String authority() {
+            return authority;
+        }
+
+        @Override
+        public synchronized ManagedChannel shutdown() {
+            shutdown = true;
+            return this;
+        }
+
+        @Override
+        public synchronized boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public synchronized boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public ManagedChannel shutdownNow() {
+            return shutdown();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+
+        private final class MockCall<RequestT, ResponseT> extends ClientCall<RequestT, ResponseT> {
+            private final String method;
+
+            @Nullable
+            private Listener<ResponseT> listener;
+
+            @Nullable
+            private RequestT request;
+
+            private volatile boolean cancelled = false;
+
+            private volatile boolean closed = false;
+
+            MockCall(String method) {
+                this.method = method;
+            }
+
+            @Override
+            public void start(Listener<ResponseT> listener, Metadata headers) {
+                this.listener = listener;
+            }
+
+            @Override
+            public void request(int numMessages) {
+            }
+
+            @Override
+            public void cancel(@Nullable String message, @Nullable Throwable cause) {
+                cancelled = true;
+
+                var request = this.request;
+
+                // like a channel, only cancel a call that is still open
+                if (request != null && !closed) {
+                    responder.cancelled(request);
+                }
+            }
+
+            @Override
+            public void sendMessage(RequestT message) {
+                request = message;
+            }
+
+            @Override
+            public void halfClose() {
+                var listener = this.listener;
+                var request = this.request;
+
+                if (listener == null || request == null) {
+                    throw new IllegalStateException("the call was not started with a request");
+                }
+
+                // answer from another thread, as a channel would
+                responders.execute(() -> {
+                    try {
+                        var responses = responder.respond(method, request);
+
+                        listener.onHeaders(new Metadata());
+
+                        for (var response : responses) {
+                            if (cancelled) {
+                                closed = true;
+                                listener.onClose(io.grpc.Status.CANCELLED, new Metadata());
+                                return;
+                            }
+
+                            @SuppressWarnings("unchecked")
+                            var message = (ResponseT) response;
+
+                            listener.onMessage(message);
+                        }
+
+                        closed = true;
+                        listener.onClose(io.grpc.Status.OK, new Metadata());
+                    } catch (StatusRuntimeException e) {
+                        closed = true;
+                        listener.onClose(e.getStatus(), new Metadata());
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NodeTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("a failed request doubles the delay of a consensus node without taking it out of rotation")
+    void increaseDelayKeepsNodeHealthy() {
+        var failing = new Node(new AccountId(3), "node-3:50211", executor);
+        var other = new Node(new AccountId(4), "node-4:50211", executor);
+
+        failing.increaseDelay();
+
+        assertEquals(500, failing.delay);
+        assertTrue(failing.isHealthy());
+        assertTrue(failing.delay() <= 0);
+        assertEquals(0, failing.compareTo(other));
+    }
+}
@@ -0,0 +1,104 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PayloadEncodingTest {
+    private static final List<PayloadCodec> codecs = Collections.singletonList(new DeflatePayloadCodec());
+
+    private static final int maxDecodedSize = PayloadEncoding.DEFAULT_MAX_DECODED_SIZE;
+
+    private static ByteString repetitive(int size) {
+        var bytes = new byte[size];
+
+        for (var i = 0; i < size; i++) {
+            bytes[i] = (byte) (i % 16);
+        }
+
+        return ByteString.copyFrom(bytes);
+    }
+
+    @Test
+    @DisplayName("deflated payloads are smaller and decode to the payload")
+    void roundTrips() {
+        var payload = repetitive(20_000);
+        var encoded = PayloadEncoding.encode(new DeflatePayloadCodec(), payload);
+
+        assertTrue(encoded.size() < payload.size());
+        assertEquals(payload, PayloadEncoding.decode(encoded, codecs, maxDecodedSize));
+    }
+
+    @Test
+    @DisplayName("payloads that would not get smaller are left as they are")
+    void keepsSmallPayloads() {
+        var payload = ByteString.copyFromUtf8("hello");
+
+        assertSame(payload, PayloadEncoding.encode(new DeflatePayloadCodec(), payload));
+    }
+
+    @Test
+    @DisplayName("contents without a header or with an unknown codec are passed through")
+    void passesThroughUnknownContents() {
+        var plain = ByteString.copyFromUtf8("HPC is not a header on its own");
+        var encoded = PayloadEncoding.encode(new DeflatePayloadCodec(), repetitive(1000));
+
+        assertSame(plain, PayloadEncoding.decode(plain, codecs, maxDecodedSize));
+        assertSame(encoded, PayloadEncoding.decode(encoded, Collections.emptyList(), maxDecodedSize));
+    }
+
+    @Test
+    @DisplayName("the size in the header is not trusted past the payload or the largest size to decode")
+    void boundsDecodedSize() {
+        var encoded = PayloadEncoding.encode(new DeflatePayloadCodec(), repetitive(1000));
+
+        // too large for what is decoded at all
+        assertSame(encoded, PayloadEncoding.decode(withDecodedSize(encoded, 64 * 1024 * 1024), codecs, maxDecodedSize));
+
+        // small enough to decode, but larger than what the payload inflates to
+        var overstated = withDecodedSize(encoded, 500_000);
+        assertSame(overstated, PayloadEncoding.decode(overstated, codecs, maxDecodedSize));
+
+        // understated, so inflating stops past it
+        var understated = withDecodedSize(encoded, 500);
+        assertSame(understated, PayloadEncoding.decode(understated, codecs, maxDecodedSize));
+
+        assertSame(encoded, PayloadEncoding.decode(encoded, codecs, 999));
+        assertEquals(repetitive(1000), PayloadEncoding.decode(encoded, codecs, 1000));
+    }
+
+    private static ByteString withDecodedSize(ByteString encoded, int decodedSize) {
+        var bytes = encoded.toByteArray();
+        ByteBuffer.wrap(bytes, PayloadEncoding.HEADER_SIZE - 4, 4).putInt(decodedSize);
+
+        return ByteString.copyFrom(bytes);
+    }
+
+    @Test
+    @DisplayName("a codec shrinks the number of chunks a message is split into")
+    void encodesBeforeChunking() {
+        var transaction = new TopicMessageSubmitTransaction()
+            .setNodeAccountIds(Collections.singletonList(AccountId.fromString("0.0.5005")))
+            .setTransactionId(new TransactionId(AccountId.fromString("0.0.5006"), Instant.ofEpochSecond(1554158542)))
+            .setTopicId(TopicId.fromString("0.0.6006"))
+            .setMessage(repetitive(20_000))
+            .setPayloadCodec(new DeflatePayloadCodec())
+            .freeze();
+
+        assertEquals(1, transaction.transactionIds.size());
+        assertTrue(transaction.getEncodedData().size() < 20_000);
+        assertEquals(repetitive(20_000), PayloadEncoding.decode(transaction.getEncodedData(), codecs, maxDecodedSize));
+
+        // the message set is kept as it is, apart from what is submitted
+        assertEquals(repetitive(20_000), transaction.getMessage());
+    }
+}
@@ -0,0 +1,98 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SerialExecutorTest {
+    @Test
+    @DisplayName("tasks run one at a time in submission order on a shared pool")
+    void runsInOrder() throws InterruptedException {
+        var pool = Executors.newFixedThreadPool(4);
+
+        try {
+            var first = new SerialExecutor(pool);
+            var second = new SerialExecutor(pool);
+            List<Integer> firstRan = Collections.synchronizedList(new ArrayList<>());
+            List<Integer> secondRan = Collections.synchronizedList(new ArrayList<>());
+            var done = new CountDownLatch(200);
+
+            for (var i = 0; i < 100; i++) {
+                var n = i;
+
+                first.execute(() -> {
+                    firstRan.add(n);
+                    done.countDown();
+                });
+
+                second.execute(() -> {
+                    secondRan.add(n);
+                    done.countDown();
+                });
+            }
+
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+
+            for (var i = 0; i < 100; i++) {
+                assertEquals(i, firstRan.get(i));
+                assertEquals(i, secondRan.get(i));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("tasks queued on an executor that runs them on the calling thread run without recursing")
+    void runsQueuedTasksInline() {
+        var executor = new SerialExecutor(Runnable::run);
+        List<Integer> ran = new ArrayList<>();
+
+        executor.execute(() -> {
+            // deep enough to overflow the stack if each task handed off the next one
+            for (var i = 0; i < 100_000; i++) {
+                var n = i;
+
+                executor.execute(() -> ran.add(n));
+            }
+        });
+
+        assertEquals(100_000, ran.size());
+        assertEquals(99_999, ran.get(99_999));
+        assertEquals(0, executor.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("a task the executor rejects is not queued, and later tasks still run")
+    void recoversFromRejection() {
+        var rejecting = new AtomicBoolean(true);
+        var executor = new SerialExecutor(task -> {
+            if (rejecting.get()) {
+                throw new RejectedExecutionException();
+            }
+
+            task.run();
+        });
+        List<Integer> ran = new ArrayList<>();
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> ran.add(1)));
+        assertEquals(0, executor.getQueuedCount());
+
+        rejecting.set(false);
+        executor.execute(() -> ran.add(2));
+
+        assertEquals(Collections.singletonList(2), ran);
+    }
+}
@@ -0,0 +1,81 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicMessageBatchTest {
+    private static TopicMessage message(ByteString contents) {
+        return new TopicMessage(Instant.ofEpochSecond(1554158542), contents.toByteArray(), new byte[48], 7, null, null);
+    }
+
+    @Test
+    @DisplayName("packed messages are unpacked in order")
+    void roundTrips() {
+        var messages = Arrays.asList(
+            ByteString.copyFromUtf8("first"),
+            ByteString.EMPTY,
+            ByteString.copyFromUtf8("third")
+        );
+
+        assertEquals(messages, TopicMessageBatch.unpack(TopicMessageBatch.pack(messages).toByteArray()));
+    }
+
+    @Test
+    @DisplayName("a message that does not follow the framing is not unpacked")
+    void ignoresPlainMessages() {
+        assertNull(TopicMessageBatch.unpack("hello".getBytes(StandardCharsets.UTF_8)));
+
+        var packed = TopicMessageBatch.pack(Arrays.asList(ByteString.copyFromUtf8("first"))).toByteArray();
+
+        assertNull(TopicMessageBatch.unpack(Arrays.copyOf(packed, packed.length - 1)));
+    }
+
+    @Test
+    @DisplayName("the unpacking handler is called once per packed message")
+    void unpacksForHandler() {
+        var received = new ArrayList<String>();
+        var handler = TopicMessageBatch.unpacking(message -> {
+            assertEquals(7, message.sequenceNumber);
+            received.add(new String(message.contents, StandardCharsets.UTF_8));
+        });
+
+        List<ByteString> messages = Arrays.asList(ByteString.copyFromUtf8("a"), ByteString.copyFromUtf8("b"));
+
+        handler.accept(message(TopicMessageBatch.pack(messages)));
+        handler.accept(message(ByteString.copyFromUtf8("c")));
+
+        assertEquals(Arrays.asList("a", "b", "c"), received);
+    }
+
+    @Test
+    @DisplayName("a message that starts like a packed one survives being packed alone")
+    void packsLookalikes() {
+        var lookalike = ByteString.copyFromUtf8("HCSB");
+
+        assertTrue(TopicMessageBatch.startsLikePacked(lookalike));
+        assertFalse(TopicMessageBatch.startsLikePacked(ByteString.copyFromUtf8("HCS")));
+
+        // submitted as it is, the magic alone unpacks to no messages at all
+        assertEquals(Collections.emptyList(), TopicMessageBatch.unpack(lookalike.toByteArray()));
+
+        var received = new ArrayList<ByteString>();
+
+        TopicMessageBatch.unpacking(message -> received.add(ByteString.copyFrom(message.contents)))
+            .accept(message(TopicMessageBatch.pack(Collections.singletonList(lookalike))));
+
+        assertEquals(Collections.singletonList(lookalike), received);
+    }
+}
@@ -0,0 +1,113 @@
+package com.hedera.hashgraph.sdk;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicMessageBatcherTest {
+    private static TopicMessage message(long sequenceNumber) {
+        return new TopicMessage(Instant.ofEpochSecond(sequenceNumber), new byte[0], new byte[48], sequenceNumber, null, null);
+    }
+
+    @Test
+    @DisplayName("a full batch is handed out immediately")
+    void handsOutFullBatch() {
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            var batches = new ArrayList<List<TopicMessage>>();
+            var batcher = new TopicMessageBatcher(2, Duration.ofMinutes(1), executor, batches::add, new SubscriptionHandle(), null);
+
+            batcher.accept(message(1));
+            batcher.accept(message(2));
+            batcher.accept(message(3));
+
+            assertEquals(1, batches.size());
+            assertEquals(2, batches.get(0).size());
+
+            batcher.flush();
+
+            assertEquals(2, batches.size());
+            assertEquals(3, batches.get(1).get(0).sequenceNumber);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("a partial batch is handed out once it lingered long enough")
+    void handsOutLingeringBatch() throws InterruptedException {
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            var latch = new CountDownLatch(1);
+            List<List<TopicMessage>> batches = Collections.synchronizedList(new ArrayList<>());
+            var batcher = new TopicMessageBatcher(100, Duration.ofMillis(10), executor, batch -> {
+                batches.add(batch);
+                latch.countDown();
+            }, new SubscriptionHandle(), null);
+
+            batcher.accept(message(1));
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, batches.get(0).size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("a partial batch is not handed out once the subscription was unsubscribed")
+    void dropsLingeringBatchAfterUnsubscribe() throws InterruptedException {
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            List<List<TopicMessage>> batches = Collections.synchronizedList(new ArrayList<>());
+            var subscriptionHandle = new SubscriptionHandle();
+            var batcher = new TopicMessageBatcher(100, Duration.ofMillis(10), executor, batches::add, subscriptionHandle, null);
+
+            batcher.accept(message(1));
+            subscriptionHandle.unsubscribe();
+
+            Thread.sleep(200);
+
+            assertEquals(Collections.emptyList(), batches);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("a batch handed out at the end of the stream that fails is reported to the error handler")
+    void reportsErrorOnComplete() {
+        var executor = Executors.newSingleThreadExecutor();
+
+        try {
+            var failure = new IllegalStateException("failed to handle the batch");
+            var reported = new AtomicReference<Throwable>();
+            var batcher = new TopicMessageBatcher(100, Duration.ofMinutes(1), executor, batch -> {
+                throw failure;
+            }, new SubscriptionHandle(), (error, message) -> reported.set(error));
+
+            batcher.accept(message(1));
+            batcher.complete();
+
+            assertSame(failure, reported.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
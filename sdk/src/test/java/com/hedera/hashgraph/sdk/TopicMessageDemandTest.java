@@ -0,0 +1,108 @@
+package com.hedera.hashgraph.sdk;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicMessageDemandTest {
+    @Test
+    @DisplayName("a call is not started until messages are requested")
+    void defersUntilRequested() {
+        var demand = new TopicMessageDemand();
+        var started = new int[]{0};
+
+        assertTrue(demand.deferIfIdle(() -> started[0]++));
+        assertEquals(0, started[0]);
+
+        demand.request(3);
+
+        assertEquals(1, started[0]);
+        assertFalse(demand.deferIfIdle(() -> started[0]++));
+    }
+
+    @Test
+    @DisplayName("responses requested from gRPC follow the messages requested")
+    void mapsRequestsOntoFlowControl() {
+        var demand = new TopicMessageDemand();
+        var stream = new FakeStream();
+
+        demand.request(5);
+        demand.beforeStart(stream);
+        demand.started();
+
+        assertTrue(stream.autoInboundFlowControlDisabled);
+
+        // gRPC requests the first response itself
+        assertEquals(4, stream.requested);
+
+        demand.delivered();
+        demand.replenish();
+        demand.request(2);
+
+        assertEquals(7, stream.requested);
+        assertEquals(6, demand.getOutstanding());
+    }
+
+    @Test
+    @DisplayName("an unbounded request never overflows")
+    void saturates() {
+        var demand = new TopicMessageDemand();
+
+        demand.request(Long.MAX_VALUE);
+        demand.request(1);
+        demand.delivered();
+
+        assertEquals(Long.MAX_VALUE, demand.getOutstanding());
+    }
+
+    private static final class FakeStream extends ClientCallStreamObserver<Object> {
+        boolean autoInboundFlowControlDisabled = false;
+
+        int requested = 0;
+
+        @Override
+        public void cancel(@Nullable String message, @Nullable Throwable cause) {
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+            autoInboundFlowControlDisabled = true;
+        }
+
+        @Override
+        public void request(int count) {
+            requested += count;
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+
+        @Override
+        public void onNext(Object value) {
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+        }
+    }
+}
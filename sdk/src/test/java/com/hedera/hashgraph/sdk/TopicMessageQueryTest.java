@@ -0,0 +1,167 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicMessageQueryTest {
+    private static final TopicId topicId = new TopicId(1000);
+
+    private static final Instant consensusTimestamp = Instant.ofEpochSecond(1554158542, 7);
+
+    private static final List<String> mirrorAddresses = Arrays.asList("mirror-1:5600", "mirror-2:5600");
+
+    @Test
+    @DisplayName("a message whose running hash does not match is not delivered, and is fetched again")
+    void refetchesMismatchedMessage() throws Exception {
+        var responses = responses(3);
+        var queries = Collections.synchronizedList(new ArrayList<ConsensusTopicQuery>());
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, (address, query) -> {
+            queries.add(query);
+
+            // the first mirror node queried sends a second message that does not follow from the first one
+            return after(query, queries.size() == 1 ? withBadRunningHash(responses, 2) : responses);
+        })) {
+            var messages = Collections.synchronizedList(new ArrayList<TopicMessage>());
+            var errors = Collections.synchronizedList(new ArrayList<Throwable>());
+
+            new TopicMessageQuery()
+                .setTopicId(topicId)
+                .setVerifyMessages(true)
+                .setErrorHandler((error, message) -> errors.add(error))
+                .subscribe(client, messages::add);
+
+            await(() -> messages.size() == 3);
+
+            assertEquals(Arrays.asList(1L, 2L, 3L), sequenceNumbers(messages));
+            assertEquals(Collections.emptyList(), errors);
+
+            // the new call resumed right after the last message that was verified
+            assertEquals(2, queries.size());
+            assertEquals(
+                InstantConverter.toProtobuf(consensusTimestamp.plusSeconds(1).plusNanos(1)),
+                queries.get(1).getConsensusStartTime());
+        }
+    }
+
+    @Test
+    @DisplayName("a message whose running hash never matches is dropped and reported, and the messages after it delivered")
+    void dropsMessageThatNeverMatches() throws Exception {
+        var responses = withBadRunningHash(responses(3), 2);
+        var queries = new AtomicInteger();
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, (address, query) -> {
+            queries.incrementAndGet();
+
+            return after(query, responses);
+        })) {
+            var messages = Collections.synchronizedList(new ArrayList<TopicMessage>());
+            var errors = Collections.synchronizedList(new ArrayList<Throwable>());
+
+            new TopicMessageQuery()
+                .setTopicId(topicId)
+                .setVerifyMessages(true)
+                .setErrorHandler((error, message) -> errors.add(error))
+                .subscribe(client, messages::add);
+
+            await(() -> messages.size() == 2);
+
+            assertEquals(Arrays.asList(1L, 3L), sequenceNumbers(messages));
+            assertEquals(1, errors.size());
+            assertTrue(errors.get(0) instanceof IllegalStateException);
+
+            // fetched once, and again for each retry
+            assertEquals(4, queries.get());
+        }
+    }
+
+    private static List<ConsensusTopicResponse> responses(int count) throws IOException {
+        var responses = new ArrayList<ConsensusTopicResponse>();
+        var message = "hello".getBytes(StandardCharsets.UTF_8);
+        @Var var runningHash = new byte[48];
+
+        for (var sequenceNumber = 1; sequenceNumber <= count; sequenceNumber++) {
+            var timestamp = consensusTimestamp.plusSeconds(sequenceNumber);
+
+            runningHash = TopicRunningHashVerifierTest.runningHash(runningHash, sequenceNumber, timestamp, message);
+
+            responses.add(ConsensusTopicResponse.newBuilder()
+                .setConsensusTimestamp(InstantConverter.toProtobuf(timestamp))
+                .setSequenceNumber(sequenceNumber)
+                .setRunningHash(ByteString.copyFrom(runningHash))
+                .setRunningHashVersion(3)
+                .setMessage(ByteString.copyFrom(message))
+                .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                    .setInitialTransactionID(new TransactionId(new AccountId(5), timestamp).toProtobuf())
+                    .setNumber(1)
+                    .setTotal(1))
+                .build());
+        }
+
+        return responses;
+    }
+
+    private static List<ConsensusTopicResponse> withBadRunningHash(List<ConsensusTopicResponse> responses, long sequenceNumber) {
+        var changed = new ArrayList<>(responses);
+        var index = (int) sequenceNumber - 1;
+
+        changed.set(index, changed.get(index).toBuilder().setRunningHash(ByteString.copyFrom(new byte[48])).build());
+
+        return changed;
+    }
+
+    // the responses a mirror node streams for the query
+    private static List<ConsensusTopicResponse> after(ConsensusTopicQuery query, List<ConsensusTopicResponse> responses) {
+        var startTime = InstantConverter.fromProtobuf(query.getConsensusStartTime());
+        var streamed = new ArrayList<ConsensusTopicResponse>();
+
+        for (var response : responses) {
+            if (!InstantConverter.fromProtobuf(response.getConsensusTimestamp()).isBefore(startTime)) {
+                streamed.add(response);
+            }
+        }
+
+        return streamed;
+    }
+
+    private static List<Long> sequenceNumbers(List<TopicMessage> messages) {
+        var sequenceNumbers = new ArrayList<Long>();
+
+        synchronized (messages) {
+            for (var message : messages) {
+                sequenceNumbers.add(message.sequenceNumber);
+            }
+        }
+
+        return sequenceNumbers;
+    }
+
+    private interface Condition {
+        boolean holds();
+    }
+
+    private static void await(Condition condition) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5000;
+
+        while (!condition.holds() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
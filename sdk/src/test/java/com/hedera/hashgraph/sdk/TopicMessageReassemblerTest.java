@@ -0,0 +1,141 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.errorprone.annotations.Var;
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Duration;
+import org.threeten.bp.Instant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class TopicMessageReassemblerTest {
+    private static final Instant validStart = Instant.ofEpochSecond(1554158542);
+
+    private static ConsensusTopicResponse chunk(long initialId, int number, int total, long consensusSeconds, String contents) {
+        return ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(InstantConverter.toProtobuf(validStart.plusSeconds(consensusSeconds)))
+            .setMessage(ByteString.copyFrom(contents, StandardCharsets.UTF_8))
+            .setSequenceNumber(consensusSeconds)
+            .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(new TransactionId(new AccountId(initialId), validStart).toProtobuf())
+                .setNumber(number)
+                .setTotal(total))
+            .build();
+    }
+
+    @Test
+    @DisplayName("chunks received out of order are assembled in chunk order")
+    void assemblesOutOfOrder() {
+        var reassembler = new TopicMessageReassembler(10, 1024, Duration.ofMinutes(5), null);
+
+        assertNull(reassembler.add(chunk(5, 3, 3, 1, "baz")));
+        assertNull(reassembler.add(chunk(5, 1, 3, 2, "foo")));
+
+        // a duplicate chunk is ignored
+        assertNull(reassembler.add(chunk(5, 1, 3, 3, "foo")));
+
+        var message = reassembler.add(chunk(5, 2, 3, 4, "bar"));
+
+        assertNotNull(message);
+        assertArrayEquals("foobarbaz".getBytes(StandardCharsets.UTF_8), message.contents);
+        assertEquals(new TransactionId(new AccountId(5), validStart), message.transactionId);
+        assertEquals(0, reassembler.getPendingMessageCount());
+        assertEquals(0, reassembler.getPendingBytes());
+    }
+
+    @Test
+    @DisplayName("the oldest partial message is dropped when too many are pending")
+    void evictsOnMessageCap() {
+        var dropped = new ArrayList<TransactionId>();
+        var reassembler = new TopicMessageReassembler(2, 1024, Duration.ofMinutes(5), dropped::add);
+
+        reassembler.add(chunk(1, 1, 2, 1, "a"));
+        reassembler.add(chunk(2, 1, 2, 2, "b"));
+        reassembler.add(chunk(3, 1, 2, 3, "c"));
+
+        assertEquals(2, reassembler.getPendingMessageCount());
+        assertEquals(1, dropped.size());
+        assertEquals(new AccountId(1), dropped.get(0).accountId);
+    }
+
+    @Test
+    @DisplayName("partial messages are dropped when too many bytes are pending")
+    void evictsOnByteCap() {
+        var dropped = new ArrayList<TransactionId>();
+        var reassembler = new TopicMessageReassembler(10, 4, Duration.ofMinutes(5), dropped::add);
+
+        reassembler.add(chunk(1, 1, 2, 1, "abc"));
+        reassembler.add(chunk(2, 1, 2, 2, "def"));
+
+        assertEquals(1, reassembler.getPendingMessageCount());
+        assertEquals(3, reassembler.getPendingBytes());
+        assertEquals(new AccountId(1), dropped.get(0).accountId);
+    }
+
+    @Test
+    @DisplayName("partial messages expire in consensus time")
+    void evictsStale() {
+        var dropped = new ArrayList<TransactionId>();
+        var reassembler = new TopicMessageReassembler(10, 1024, Duration.ofMinutes(5), dropped::add);
+
+        reassembler.add(chunk(1, 1, 2, 0, "a"));
+        reassembler.add(chunk(2, 1, 2, 60, "b"));
+        reassembler.add(chunk(3, 1, 2, 301, "c"));
+
+        assertEquals(2, reassembler.getPendingMessageCount());
+        assertEquals(1, dropped.size());
+
+        // the late chunk starts a new partial message instead of completing the dropped one
+        assertNull(reassembler.add(chunk(1, 2, 2, 302, "a")));
+    }
+
+    @Test
+    @DisplayName("the earliest pending chunk is the first chunk received of the oldest partial message")
+    void tracksEarliestPendingChunk() {
+        var reassembler = new TopicMessageReassembler(10, 1024, Duration.ofMinutes(5), null);
+
+        assertNull(reassembler.getEarliestPendingChunk());
+
+        reassembler.add(chunk(1, 2, 2, 1, "a"));
+        reassembler.add(chunk(2, 1, 2, 2, "b"));
+
+        @Var var earliest = reassembler.getEarliestPendingChunk();
+        assertNotNull(earliest);
+        assertEquals(1, earliest.getSequenceNumber());
+
+        // completing the oldest message moves the earliest pending chunk to the next one
+        assertNotNull(reassembler.add(chunk(1, 1, 2, 3, "a")));
+
+        earliest = reassembler.getEarliestPendingChunk();
+        assertNotNull(earliest);
+        assertEquals(2, earliest.getSequenceNumber());
+
+        assertNotNull(reassembler.add(chunk(2, 2, 2, 4, "b")));
+        assertNull(reassembler.getEarliestPendingChunk());
+    }
+
+    @Test
+    @DisplayName("dropping what is pending reports every partial message")
+    void dropsPending() {
+        var dropped = new ArrayList<TransactionId>();
+        var reassembler = new TopicMessageReassembler(10, 1024, Duration.ofMinutes(5), dropped::add);
+
+        reassembler.add(chunk(1, 1, 2, 1, "a"));
+        reassembler.add(chunk(2, 1, 2, 2, "b"));
+        reassembler.dropPending();
+
+        assertEquals(0, reassembler.getPendingMessageCount());
+        assertEquals(0, reassembler.getPendingBytes());
+        assertEquals(2, dropped.size());
+        assertEquals(new AccountId(1), dropped.get(0).accountId);
+    }
+}
@@ -0,0 +1,330 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicQuery;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import io.grpc.Status;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicMessageReplayTest {
+    private static final Instant startTime = Instant.ofEpochSecond(1554158542);
+
+    private static final TopicId topicId = new TopicId(5);
+
+    private static final List<String> mirrorAddresses = Collections.singletonList("mirror:5600");
+
+    @Test
+    @DisplayName("the time range is split into adjoining segments of equal length")
+    void splitsRange() {
+        var boundaries = new TopicMessageReplay()
+            .setSegmentCount(4)
+            .segmentBoundaries(startTime, startTime.plusSeconds(100));
+
+        assertEquals(5, boundaries.length);
+        assertEquals(startTime, boundaries[0]);
+        assertEquals(startTime.plusSeconds(25), boundaries[1]);
+        assertEquals(startTime.plusSeconds(75), boundaries[3]);
+        assertEquals(startTime.plusSeconds(100), boundaries[4]);
+    }
+
+    @Test
+    @DisplayName("a range is never split finer than a nanosecond")
+    void limitsSegments() {
+        var boundaries = new TopicMessageReplay()
+            .setSegmentCount(16)
+            .segmentBoundaries(startTime, startTime.plusNanos(3));
+
+        assertEquals(4, boundaries.length);
+    }
+
+    @Test
+    @DisplayName("a replay needs a topic and a time range")
+    void requiresRange() throws Exception {
+        try (var client = Client.forTestnet()) {
+            assertThrows(IllegalStateException.class, () -> {
+                new TopicMessageReplay()
+                    .setTopicId(new TopicId(5))
+                    .replayAsync(client, batch -> {
+                    });
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("segments are handed out in order, even when later segments complete first")
+    void deliversInOrder() throws Exception {
+        var responses = Arrays.asList(
+            response(1, 10, "first"),
+            response(2, 35, "second"),
+            response(3, 60, "third"),
+            response(4, 85, "fourth"));
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, (address, query) -> {
+            // the later the segment, the sooner it completes
+            sleep((100 - secondsOf(query.getConsensusStartTime())) * 2);
+
+            return between(query, responses);
+        })) {
+            var batches = Collections.synchronizedList(new ArrayList<List<String>>());
+
+            replay(4, 4)
+                .replayAsync(client, batch -> batches.add(contents(batch)))
+                .get(5, TimeUnit.SECONDS);
+
+            assertEquals(Arrays.asList(
+                Collections.singletonList("first"),
+                Collections.singletonList("second"),
+                Collections.singletonList("third"),
+                Collections.singletonList("fourth")
+            ), batches);
+        }
+    }
+
+    @Test
+    @DisplayName("a segment is only started once the segments more than the window before it were handed out")
+    void limitsConcurrentSegments() throws Exception {
+        var responses = Arrays.asList(
+            response(1, 10, "first"),
+            response(2, 35, "second"),
+            response(3, 60, "third"),
+            response(4, 85, "fourth"));
+        var queries = Collections.synchronizedList(new ArrayList<ConsensusTopicQuery>());
+        var firstSegment = new CountDownLatch(1);
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, (address, query) -> {
+            queries.add(query);
+
+            if (secondsOf(query.getConsensusStartTime()) == 0) {
+                await(firstSegment);
+            }
+
+            return between(query, responses);
+        })) {
+            var batches = Collections.synchronizedList(new ArrayList<List<String>>());
+
+            try {
+                var future = replay(4, 2).replayAsync(client, batch -> batches.add(contents(batch)));
+
+                // the second segment completes, but is not handed out before the first one
+                sleep(200);
+
+                assertEquals(2, queries.size());
+                assertEquals(Collections.emptyList(), batches);
+
+                firstSegment.countDown();
+                future.get(5, TimeUnit.SECONDS);
+            } finally {
+                firstSegment.countDown();
+            }
+
+            assertEquals(4, queries.size());
+            assertEquals(4, batches.size());
+            assertEquals(Collections.singletonList("fourth"), batches.get(3));
+        }
+    }
+
+    @Test
+    @DisplayName("a chunked message that straddles two segments is handed out whole with the later segment")
+    void reassemblesAcrossSegments() throws Exception {
+        var initialTransactionId = new TransactionId(new AccountId(1001), startTime.plusSeconds(19));
+        var responses = Arrays.asList(
+            chunk(1, 20, initialTransactionId, 1, "hello, "),
+            chunk(2, 30, initialTransactionId, 2, "world"));
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, (address, query) -> between(query, responses))) {
+            var batches = Collections.synchronizedList(new ArrayList<List<String>>());
+
+            replay(4, 4)
+                .replayAsync(client, batch -> batches.add(contents(batch)))
+                .get(5, TimeUnit.SECONDS);
+
+            assertEquals(Arrays.asList(
+                Collections.emptyList(),
+                Collections.singletonList("hello, world"),
+                Collections.emptyList(),
+                Collections.emptyList()
+            ), batches);
+        }
+    }
+
+    @Test
+    @DisplayName("a segment that fails fails the replay and stops every other segment")
+    void stopsSegmentsOnFailure() throws Exception {
+        var cancelled = Collections.synchronizedList(new ArrayList<ConsensusTopicQuery>());
+        var otherSegments = new CountDownLatch(1);
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, new MockNetwork.MirrorResponder() {
+            @Override
+            public List<ConsensusTopicResponse> respond(String address, ConsensusTopicQuery query) {
+                if (secondsOf(query.getConsensusStartTime()) == 0) {
+                    throw Status.INTERNAL.asRuntimeException();
+                }
+
+                await(otherSegments);
+
+                return Collections.emptyList();
+            }
+
+            @Override
+            public void cancelled(String address, ConsensusTopicQuery query) {
+                cancelled.add(query);
+            }
+        })) {
+            try {
+                var future = replay(3, 3).replayAsync(client, batch -> {
+                });
+
+                var error = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+                assertEquals(Status.Code.INTERNAL, Status.fromThrowable(error.getCause()).getCode());
+
+                awaitSize(cancelled, 2);
+
+                assertEquals(2, cancelled.size());
+            } finally {
+                otherSegments.countDown();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("cancelling the replay stops every segment")
+    void stopsSegmentsOnCancel() throws Exception {
+        var cancelled = Collections.synchronizedList(new ArrayList<ConsensusTopicQuery>());
+        var segments = new CountDownLatch(1);
+
+        try (var client = MockNetwork.mirrorClient(mirrorAddresses, new MockNetwork.MirrorResponder() {
+            @Override
+            public List<ConsensusTopicResponse> respond(String address, ConsensusTopicQuery query) {
+                await(segments);
+
+                return Collections.emptyList();
+            }
+
+            @Override
+            public void cancelled(String address, ConsensusTopicQuery query) {
+                cancelled.add(query);
+            }
+        })) {
+            try {
+                var future = replay(2, 2).replayAsync(client, batch -> {
+                });
+
+                future.cancel(true);
+
+                assertThrows(CancellationException.class, future::join);
+
+                awaitSize(cancelled, 2);
+
+                assertEquals(2, cancelled.size());
+            } finally {
+                segments.countDown();
+            }
+        }
+    }
+
+    private static TopicMessageReplay replay(int segmentCount, int maxConcurrentSegments) {
+        return new TopicMessageReplay()
+            .setTopicId(topicId)
+            .setStartTime(startTime)
+            .setEndTime(startTime.plusSeconds(100))
+            .setSegmentCount(segmentCount)
+            .setMaxConcurrentSegments(maxConcurrentSegments);
+    }
+
+    private static ConsensusTopicResponse response(long sequenceNumber, long seconds, String contents) {
+        return ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(InstantConverter.toProtobuf(startTime.plusSeconds(seconds)))
+            .setSequenceNumber(sequenceNumber)
+            .setRunningHash(ByteString.copyFrom(new byte[48]))
+            .setMessage(ByteString.copyFromUtf8(contents))
+            .build();
+    }
+
+    private static ConsensusTopicResponse chunk(
+        long sequenceNumber,
+        long seconds,
+        TransactionId initialTransactionId,
+        int number,
+        String contents
+    ) {
+        return response(sequenceNumber, seconds, contents).toBuilder()
+            .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(initialTransactionId.toProtobuf())
+                .setNumber(number)
+                .setTotal(2))
+            .build();
+    }
+
+    // the responses a mirror node streams for the query
+    private static List<ConsensusTopicResponse> between(ConsensusTopicQuery query, List<ConsensusTopicResponse> responses) {
+        var start = InstantConverter.fromProtobuf(query.getConsensusStartTime());
+        var end = InstantConverter.fromProtobuf(query.getConsensusEndTime());
+        var streamed = new ArrayList<ConsensusTopicResponse>();
+
+        for (var response : responses) {
+            var consensusTimestamp = InstantConverter.fromProtobuf(response.getConsensusTimestamp());
+
+            if (!consensusTimestamp.isBefore(start) && consensusTimestamp.isBefore(end)) {
+                streamed.add(response);
+            }
+        }
+
+        return streamed;
+    }
+
+    private static long secondsOf(com.hedera.hashgraph.sdk.proto.Timestamp timestamp) {
+        return InstantConverter.fromProtobuf(timestamp).getEpochSecond() - startTime.getEpochSecond();
+    }
+
+    private static List<String> contents(List<TopicMessage> batch) {
+        var contents = new ArrayList<String>();
+
+        for (var message : batch) {
+            contents.add(new String(message.contents, StandardCharsets.UTF_8));
+        }
+
+        return contents;
+    }
+
+    private static void awaitSize(List<?> list, int size) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 5000;
+
+        while (list.size() < size && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
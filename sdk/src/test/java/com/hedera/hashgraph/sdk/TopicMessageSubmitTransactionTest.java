@@ -0,0 +1,150 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import com.hedera.hashgraph.sdk.proto.TransactionBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TopicMessageSubmitTransactionTest {
+    private static final List<AccountId> nodeIds = Arrays.asList(
+        AccountId.fromString("0.0.3"),
+        AccountId.fromString("0.0.4"),
+        AccountId.fromString("0.0.5"));
+
+    private static final AccountId rejectingNodeId = nodeIds.get(1);
+
+    @Test
+    @DisplayName("a chunk that a node rejects is submitted again to another node, and the other chunks once")
+    void retriesRejectedChunk() throws Exception {
+        var submissions = Collections.synchronizedList(new ArrayList<Submission>());
+
+        try (var client = MockNetwork.client(nodeIds, (node, method, request) -> {
+            submissions.add(new Submission(node, MockNetwork.body(request)));
+
+            return MockNetwork.precheck(node.equals(rejectingNodeId) ?
+                ResponseCodeEnum.INVALID_NODE_ACCOUNT :
+                ResponseCodeEnum.OK);
+        })) {
+            var transaction = makeTransaction();
+
+            var responses = transaction.executeAll(client);
+
+            assertEquals(3, responses.size());
+            assertEquals(Collections.nCopies(3, ChunkStatus.SUCCEEDED), transaction.getChunkStatuses());
+
+            // each chunk starts with another node, so only the second one was rejected
+            assertEquals(Arrays.asList(1, 2, 1), submissionsPerChunk(submissions));
+            assertEquals(Arrays.asList(rejectingNodeId, nodeIds.get(2)), nodesOfChunk(submissions, 2));
+            assertEquals(nodeIds.get(2), transaction.getChunkResponses().get(1).nodeId);
+        }
+    }
+
+    @Test
+    @DisplayName("a chunk that failed fails the execution with its own error, and is submitted again with a fresh transaction ID")
+    void resubmitsFailedChunkWithFreshTransactionId() throws Exception {
+        var submissions = Collections.synchronizedList(new ArrayList<Submission>());
+        var rejecting = new AtomicBoolean(true);
+
+        try (var client = MockNetwork.client(nodeIds, (node, method, request) -> {
+            submissions.add(new Submission(node, MockNetwork.body(request)));
+
+            return MockNetwork.precheck(rejecting.get() && node.equals(rejectingNodeId) ?
+                ResponseCodeEnum.INVALID_NODE_ACCOUNT :
+                ResponseCodeEnum.OK);
+        })) {
+            var transaction = makeTransaction().setMaxChunkAttempts(1);
+
+            var error = assertThrows(PrecheckStatusException.class, () -> transaction.executeAll(client));
+
+            assertEquals(Status.INVALID_NODE_ACCOUNT, error.status);
+            assertEquals(
+                Arrays.asList(ChunkStatus.SUCCEEDED, ChunkStatus.FAILED, ChunkStatus.SUCCEEDED),
+                transaction.getChunkStatuses());
+
+            var rejected = submissions.get(findSubmission(submissions, 2)).body;
+
+            submissions.clear();
+            rejecting.set(false);
+
+            var responses = transaction.executeAll(client);
+
+            assertEquals(3, responses.size());
+            assertEquals(Collections.nCopies(3, ChunkStatus.SUCCEEDED), transaction.getChunkStatuses());
+
+            // only the chunk that failed was submitted again, still as part of the same message
+            assertEquals(Arrays.asList(0, 1, 0), submissionsPerChunk(submissions));
+
+            var resubmitted = submissions.get(0).body;
+
+            assertNotEquals(rejected.getTransactionID(), resubmitted.getTransactionID());
+            assertEquals(
+                rejected.getConsensusSubmitMessage().getChunkInfo().getInitialTransactionID(),
+                resubmitted.getConsensusSubmitMessage().getChunkInfo().getInitialTransactionID());
+            assertEquals(rejected.getConsensusSubmitMessage().getMessage(), resubmitted.getConsensusSubmitMessage().getMessage());
+        }
+    }
+
+    private static TopicMessageSubmitTransaction makeTransaction() {
+        return new TopicMessageSubmitTransaction()
+            .setNodeAccountIds(nodeIds)
+            .setTopicId(TopicId.fromString("0.0.6006"))
+            .setMessage(new byte[30])
+            .setChunkSize(10)
+            .setMaxChunksInFlight(3);
+    }
+
+    private static List<Integer> submissionsPerChunk(List<Submission> submissions) {
+        var counts = new ArrayList<>(Collections.nCopies(3, 0));
+
+        for (var submission : submissions) {
+            var chunk = submission.body.getConsensusSubmitMessage().getChunkInfo().getNumber() - 1;
+
+            counts.set(chunk, counts.get(chunk) + 1);
+        }
+
+        return counts;
+    }
+
+    private static List<AccountId> nodesOfChunk(List<Submission> submissions, int number) {
+        var nodes = new ArrayList<AccountId>();
+
+        for (var submission : submissions) {
+            if (submission.body.getConsensusSubmitMessage().getChunkInfo().getNumber() == number) {
+                nodes.add(submission.nodeId);
+            }
+        }
+
+        return nodes;
+    }
+
+    private static int findSubmission(List<Submission> submissions, int number) {
+        for (var i = 0; i < submissions.size(); i++) {
+            if (submissions.get(i).body.getConsensusSubmitMessage().getChunkInfo().getNumber() == number) {
+                return i;
+            }
+        }
+
+        throw new IllegalStateException("chunk " + number + " was not submitted");
+    }
+
+    private static final class Submission {
+        final AccountId nodeId;
+
+        final TransactionBody body;
+
+        Submission(AccountId nodeId, TransactionBody body) {
+            this.nodeId = nodeId;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TopicMessageTest {
+    private static final ConsensusTopicResponse response = ConsensusTopicResponse.newBuilder()
+        .setConsensusTimestamp(InstantConverter.toProtobuf(Instant.ofEpochSecond(1554158542)))
+        .setMessage(ByteString.copyFrom("hello", StandardCharsets.UTF_8))
+        .setRunningHash(ByteString.copyFrom(new byte[48]))
+        .setSequenceNumber(3)
+        .build();
+
+    @Test
+    @DisplayName("contents are exposed as views without copying")
+    void exposesViews() {
+        var message = TopicMessage.ofSingle(response);
+
+        assertEquals(response.getMessage(), message.getContents());
+        assertEquals(response.getRunningHash(), message.getRunningHash());
+        assertEquals(5, message.getContentsBuffer().remaining());
+
+        // the chunk shares the running hash of the response
+        assertSame(response.getRunningHash(), message.chunks[0].runningHash);
+    }
+
+    @Test
+    @DisplayName("the contents buffer cannot be written to")
+    void contentsBufferIsReadOnly() {
+        var buffer = TopicMessage.ofSingle(response).getContentsBuffer();
+
+        assertThrows(ReadOnlyBufferException.class, () -> buffer.put((byte) 0));
+    }
+
+    @Test
+    @DisplayName("the views do not change when the public arrays are modified")
+    void viewsAreImmutable() {
+        var message = TopicMessage.ofSingle(response);
+
+        message.contents[0] = 'j';
+        message.runningHash[0] = 1;
+
+        assertEquals(response.getMessage(), message.getContents());
+        assertEquals(response.getRunningHash(), message.getRunningHash());
+
+        var built = new TopicMessage(Instant.ofEpochSecond(1554158542), new byte[]{1, 2}, new byte[48], 4, null, null);
+        var contents = built.getContents();
+
+        built.contents[0] = 9;
+
+        assertEquals(1, contents.byteAt(0));
+        assertEquals(1, built.getContentsBuffer().get(0));
+    }
+}
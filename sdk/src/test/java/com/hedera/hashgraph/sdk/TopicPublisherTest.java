@@ -0,0 +1,82 @@
+package com.hedera.hashgraph.sdk;
+
+import com.hedera.hashgraph.sdk.proto.ConsensusServiceGrpc;
+import com.hedera.hashgraph.sdk.proto.ResponseCodeEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicPublisherTest {
+    private static final AccountId nodeId = AccountId.fromString("0.0.3");
+
+    @Test
+    @DisplayName("a submission that failed in transit is sent again with the same transaction ID")
+    void sendsAgainWithSameTransactionId() throws Exception {
+        var submissions = Collections.synchronizedList(new ArrayList<TransactionId>());
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (!method.equals(ConsensusServiceGrpc.getSubmitMessageMethod().getFullMethodName())) {
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            if (!MockNetwork.body(request).getConsensusSubmitMessage().getMessage().toStringUtf8().equals("second")) {
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+
+            submissions.add(TransactionId.fromProtobuf(MockNetwork.body(request).getTransactionID()));
+
+            // the node may or may not have accepted the first time it was sent
+            if (submissions.size() == 1) {
+                throw io.grpc.Status.INTERNAL.asRuntimeException();
+            }
+
+            return MockNetwork.precheck(ResponseCodeEnum.OK);
+        })) {
+            var publisher = new TopicPublisher(client, new TopicId(5));
+
+            publisher.publishAsync("first").get(5, TimeUnit.SECONDS);
+            publisher.publishAsync("second").get(5, TimeUnit.SECONDS);
+
+            assertEquals(2, submissions.size());
+            assertEquals(submissions.get(0), submissions.get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("a submission the node rejected for good is not sent again")
+    void failsOnDefinitiveRejection() throws Exception {
+        var submissions = Collections.synchronizedList(new ArrayList<TransactionId>());
+
+        try (var client = MockNetwork.client(Collections.singletonList(nodeId), (node, method, request) -> {
+            if (!method.equals(ConsensusServiceGrpc.getSubmitMessageMethod().getFullMethodName())) {
+                return MockNetwork.receipt(ResponseCodeEnum.SUCCESS);
+            }
+
+            if (!MockNetwork.body(request).getConsensusSubmitMessage().getMessage().toStringUtf8().equals("second")) {
+                return MockNetwork.precheck(ResponseCodeEnum.OK);
+            }
+
+            submissions.add(TransactionId.fromProtobuf(MockNetwork.body(request).getTransactionID()));
+
+            return MockNetwork.precheck(ResponseCodeEnum.INVALID_TOPIC_ID);
+        })) {
+            var publisher = new TopicPublisher(client, new TopicId(5));
+
+            publisher.publishAsync("first").get(5, TimeUnit.SECONDS);
+
+            var error = assertThrows(ExecutionException.class, () -> publisher.publishAsync("second").get(5, TimeUnit.SECONDS));
+
+            assertTrue(error.getCause() instanceof PrecheckStatusException);
+            assertEquals(Status.INVALID_TOPIC_ID, ((PrecheckStatusException) error.getCause()).status);
+            assertEquals(1, submissions.size());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.hedera.hashgraph.sdk;
+
+import com.google.protobuf.ByteString;
+import com.hedera.hashgraph.sdk.proto.ConsensusMessageChunkInfo;
+import com.hedera.hashgraph.sdk.proto.mirror.ConsensusTopicResponse;
+import org.bouncycastle.crypto.digests.SHA384Digest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.threeten.bp.Instant;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TopicRunningHashVerifierTest {
+    private static final TopicId topicId = new TopicId(1000);
+
+    private static final AccountId payer = new AccountId(5);
+
+    private static final Instant consensusTimestamp = Instant.ofEpochSecond(1554158542, 7);
+
+    private static byte[] sha384(byte[] bytes) {
+        var digest = new SHA384Digest();
+        var hash = new byte[48];
+
+        digest.update(bytes, 0, bytes.length);
+        digest.doFinal(hash, 0);
+
+        return hash;
+    }
+
+    // the running hash as network nodes compute it, for a message of topic 0.0.1000 paid for by 0.0.5
+    static byte[] runningHash(byte[] previous, long sequenceNumber, Instant timestamp, byte[] message) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+
+        try (var out = new ObjectOutputStream(bytes)) {
+            out.write(previous);
+            out.writeLong(3);
+            out.writeLong(payer.shard);
+            out.writeLong(payer.realm);
+            out.writeLong(payer.num);
+            out.writeLong(topicId.shard);
+            out.writeLong(topicId.realm);
+            out.writeLong(topicId.num);
+            out.writeLong(timestamp.getEpochSecond());
+            out.writeInt(timestamp.getNano());
+            out.writeLong(sequenceNumber);
+            out.write(sha384(message));
+            out.flush();
+        }
+
+        return sha384(bytes.toByteArray());
+    }
+
+    private static ConsensusTopicResponse response(long sequenceNumber, byte[] runningHash, byte[] message) {
+        return ConsensusTopicResponse.newBuilder()
+            .setConsensusTimestamp(InstantConverter.toProtobuf(consensusTimestamp.plusSeconds(sequenceNumber)))
+            .setSequenceNumber(sequenceNumber)
+            .setRunningHash(ByteString.copyFrom(runningHash))
+            .setRunningHashVersion(3)
+            .setMessage(ByteString.copyFrom(message))
+            .setChunkInfo(ConsensusMessageChunkInfo.newBuilder()
+                .setInitialTransactionID(new TransactionId(payer, consensusTimestamp).toProtobuf())
+                .setNumber(1)
+                .setTotal(2))
+            .build();
+    }
+
+    @Test
+    @DisplayName("running hashes are recomputed and checked")
+    void verifiesRunningHash() throws IOException {
+        var message = "hello".getBytes(StandardCharsets.UTF_8);
+        var first = new byte[48];
+        var second = runningHash(first, 2, consensusTimestamp.plusSeconds(2), message);
+
+        var verifier = new TopicRunningHashVerifier(topicId);
+
+        assertTrue(verifier.verify(response(1, first, message)));
+        assertTrue(verifier.verify(response(2, second, message)));
+
+        // the same hash cannot follow from itself
+        assertFalse(verifier.verify(response(3, second, message)));
+
+        // a mismatch leaves the verifier where it was, so the right message still follows
+        var third = runningHash(second, 3, consensusTimestamp.plusSeconds(3), message);
+
+        assertTrue(verifier.verify(response(3, third, message)));
+    }
+
+    @Test
+    @DisplayName("a jump in sequence numbers is a gap")
+    void detectsGap() {
+        var message = "hello".getBytes(StandardCharsets.UTF_8);
+        var verifier = new TopicRunningHashVerifier(topicId);
+
+        // nothing to compare the first response with
+        assertFalse(verifier.isGap(response(7, new byte[48], message)));
+
+        verifier.verify(response(7, new byte[48], message));
+
+        assertFalse(verifier.isGap(response(8, new byte[48], message)));
+        assertTrue(verifier.isGap(response(10, new byte[48], message)));
+    }
+}
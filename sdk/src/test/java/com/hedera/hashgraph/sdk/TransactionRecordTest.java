@@ -11,9 +11,12 @@ import org.junit.jupiter.api.Test;
 import org.threeten.bp.Instant;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class TransactionRecordTest {
     final Instant exampleInstant = Instant.ofEpochSecond(1554158542);
@@ -65,4 +68,43 @@ public class TransactionRecordTest {
 
         assertEquals(record.toString(), newRecord.toString());
     }
+
+    @Test
+    @DisplayName("transfers are decoded once on first access")
+    void decodesTransfersLazily() {
+        var record = TransactionRecord.fromProtobuf(com.hedera.hashgraph.sdk.proto.TransactionRecord.newBuilder()
+            .setReceipt(com.hedera.hashgraph.sdk.proto.TransactionReceipt.newBuilder().build())
+            .setConsensusTimestamp(InstantConverter.toProtobuf(exampleInstant))
+            .setTransactionID(new TransactionId(AccountId.fromString("0.0.5006"), exampleInstant).toProtobuf())
+            .setTransferList(TransferList.newBuilder()
+                .addAccountAmounts(com.hedera.hashgraph.sdk.proto.AccountAmount.newBuilder()
+                    .setAccountID(AccountId.fromString("0.0.5005").toProtobuf())
+                    .setAmount(100_000)))
+            .addTokenTransferLists(com.hedera.hashgraph.sdk.proto.TokenTransferList.newBuilder()
+                .setToken(TokenId.fromString("0.0.5007").toProtobuf())
+                .addTransfers(com.hedera.hashgraph.sdk.proto.AccountAmount.newBuilder()
+                    .setAccountID(AccountId.fromString("0.0.5005").toProtobuf())
+                    .setAmount(-10)))
+            .build());
+
+        assertEquals(1, record.transfers.size());
+        assertSame(record.transfers.get(0), record.transfers.get(0));
+        assertEquals(AccountId.fromString("0.0.5005"), record.transfers.get(0).accountId);
+
+        assertEquals(1, record.tokenTransfers.size());
+        assertEquals(-10L, record.tokenTransfers.get(TokenId.fromString("0.0.5007")).get(AccountId.fromString("0.0.5005")));
+
+        // the decoded collections can still be modified like the ones decoded up front
+        var transfer = record.transfers.remove(0);
+        record.transfers.add(transfer);
+        record.transfers.add(transfer);
+
+        assertEquals(2, record.transfers.size());
+        assertSame(transfer, record.transfers.get(1));
+
+        record.tokenTransfers.remove(TokenId.fromString("0.0.5007"));
+        record.tokenTransfers.put(TokenId.fromString("0.0.5008"), new HashMap<>());
+
+        assertEquals(Collections.singleton(TokenId.fromString("0.0.5008")), record.tokenTransfers.keySet());
+    }
 }